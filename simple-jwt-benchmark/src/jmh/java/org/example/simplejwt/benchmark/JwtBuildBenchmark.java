@@ -0,0 +1,82 @@
+package org.example.simplejwt.benchmark;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.example.simplejwt.JWT;
+import org.example.simplejwt.JWT.Algorithm;
+import org.example.simplejwt.JWT.Encoding;
+import org.example.simplejwt.JWT.KeySize;
+import org.example.simplejwt.JwtBuilder;
+import org.example.simplejwt.JwtComponenet.ParsedJwt;
+import org.example.simplejwt.JwtTemplate;
+import org.example.simplejwt.benchmark.JwtFixtures.ClaimSet;
+import org.example.simplejwt.benchmark.JwtFixtures.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * JWT 생성 벤치마크(전체 알고리즘 x 클레임 세트 크기 x 인코딩)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JwtBuildBenchmark {
+
+	@Param
+	private Algorithm algorithm;
+
+	@Param
+	private ClaimSet claimSet;
+
+	@Param
+	private Encoding encoding;
+
+	private JwtBuilder builder;
+	private JwtTemplate template;
+	private ParsedJwt parsedJwt;
+	private ZonedDateTime renewedExpiration;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Keys keys = JwtFixtures.keys(algorithm, KeySize.LOW);
+		builder = JwtFixtures.builder(algorithm, keys, claimSet).encoding(encoding);
+		template = JwtFixtures.templateBuilder(algorithm, keys, claimSet).encoding(encoding).template();
+		parsedJwt = JWT.parser().verifier(keys.verifyingKey()).parse(builder.build());
+		renewedExpiration = ZonedDateTime.of(LocalDateTime.of(2099, 12, 31, 23, 59), ZoneId.of("UTC"));
+	}
+
+	@Benchmark
+	public String build() {
+		return builder.build();
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String buildMultiThreaded() {
+		return builder.build();
+	}
+
+	@Benchmark
+	public String mintWithTemplate() {
+		return template.mint("user-1234567890", null, null);
+	}
+
+	/**
+	 * 검증된 토큰의 expiration만 바꾸어 다시 서명(build와 비교)
+	 */
+	@Benchmark
+	public String renewWithTemplate() {
+		return template.renew(parsedJwt, renewedExpiration, null, null);
+	}
+}
@@ -0,0 +1,65 @@
+package org.example.simplejwt.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.simplejwt.JWT;
+import org.example.simplejwt.JWT.Algorithm;
+import org.example.simplejwt.JWT.KeySize;
+import org.example.simplejwt.JwtBuilder;
+import org.example.simplejwt.JwtComponenet.ParsedJwt;
+import org.example.simplejwt.JwtVerifier;
+import org.example.simplejwt.benchmark.JwtFixtures.ClaimSet;
+import org.example.simplejwt.benchmark.JwtFixtures.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Payload 압축 벤치마크(압축 여부 x 클레임 세트 크기)
+ *  - 생성, 검증 처리량을 측정한다(토큰 길이는 JwtTokenSizeReport로 확인).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JwtCompressionBenchmark {
+
+	@Param({"HS256", "ES256"})
+	private Algorithm algorithm;
+
+	@Param
+	private ClaimSet claimSet;
+
+	@Param({"false", "true"})
+	private boolean compressed;
+
+	private JwtBuilder builder;
+	private JwtVerifier verifier;
+	private String token;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Keys keys = JwtFixtures.keys(algorithm, KeySize.LOW);
+		builder = JwtFixtures.builder(algorithm, keys, claimSet);
+		if (compressed) {
+			builder.compress(0);
+		}
+		token = builder.build();
+		verifier = JWT.parser().verifier(keys.verifyingKey());
+	}
+
+	@Benchmark
+	public String build() {
+		return builder.build();
+	}
+
+	@Benchmark
+	public ParsedJwt parse() {
+		return verifier.parse(token);
+	}
+}
@@ -0,0 +1,110 @@
+package org.example.simplejwt.benchmark;
+
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.crypto.SecretKey;
+
+import org.example.simplejwt.JWT;
+import org.example.simplejwt.JWT.Algorithm;
+import org.example.simplejwt.JWT.KeySize;
+import org.example.simplejwt.JwtBuilder;
+
+/**
+ * 벤치마크 공통 데이터(키, 클레임 세트)
+ */
+public class JwtFixtures {
+
+	/**
+	 * 클레임 세트 크기
+	 *  - SMALL: 등록 클레임만 포함
+	 *  - MEDIUM: 등록 클레임 + 사용자 클레임 10개
+	 *  - LARGE: 등록 클레임 + 사용자 클레임 30개 + 권한 목록 200개
+	 */
+	public enum ClaimSet {
+		SMALL(0, 0),
+		MEDIUM(10, 0),
+		LARGE(30, 200);
+
+		private final int customClaimCount;
+		private final int permissionCount;
+
+		ClaimSet(int customClaimCount, int permissionCount) {
+			this.customClaimCount = customClaimCount;
+			this.permissionCount = permissionCount;
+		}
+	}
+
+	/**
+	 * 서명 키와 검증 키
+	 */
+	public static class Keys {
+		private final Key signingKey;
+		private final Key verifyingKey;
+
+		private Keys(Key signingKey, Key verifyingKey) {
+			this.signingKey = signingKey;
+			this.verifyingKey = verifyingKey;
+		}
+
+		public Key signingKey() {
+			return signingKey;
+		}
+
+		public Key verifyingKey() {
+			return verifyingKey;
+		}
+	}
+
+	public static Keys keys(Algorithm algorithm, KeySize keySize) {
+		return switch (algorithm) {
+			case HS256, HS384, HS512 -> {
+				SecretKey secretKey = JWT.generateSecretKey(algorithm);
+				yield new Keys(secretKey, secretKey);
+			}
+			default -> {
+				KeyPair keyPair = JWT.generateKeyPair(algorithm, keySize);
+				yield new Keys(keyPair.getPrivate(), keyPair.getPublic());
+			}
+		};
+	}
+
+	public static JwtBuilder builder(Algorithm algorithm, Keys keys, ClaimSet claimSet) {
+		return templateBuilder(algorithm, keys, claimSet).subject("user-1234567890");
+	}
+
+	/**
+	 * 템플릿용 빌더(발급마다 지정하는 subject를 제외한 클레임 세트)
+	 */
+	public static JwtBuilder templateBuilder(Algorithm algorithm, Keys keys, ClaimSet claimSet) {
+		JwtBuilder builder = JWT.builder().algorithm(algorithm);
+		if (keys.signingKey() instanceof SecretKey secretKey) {
+			builder.secretKey(secretKey);
+		} else {
+			builder.privateKey((PrivateKey)keys.signingKey());
+		}
+
+		builder.issuer("simple-jwt-benchmark")
+			.audience("benchmark-service")
+			.issuedAt(ZonedDateTime.of(LocalDateTime.of(2024, 1, 1, 0, 0), ZoneId.of("Asia/Seoul")))
+			.expiration(ZonedDateTime.of(LocalDateTime.of(2099, 12, 31, 23, 59), ZoneId.of("Asia/Seoul")));
+
+		for (int i = 0; i < claimSet.customClaimCount; i++) {
+			builder.claim("claim" + i, "value-" + i);
+		}
+		if (claimSet.permissionCount > 0) {
+			List<String> permissions = new ArrayList<>(claimSet.permissionCount);
+			for (int i = 0; i < claimSet.permissionCount; i++) {
+				permissions.add("resource-" + i + ":read");
+			}
+			builder.claim("permissions", permissions);
+		}
+		return builder;
+	}
+}
@@ -0,0 +1,65 @@
+package org.example.simplejwt.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.simplejwt.JWT;
+import org.example.simplejwt.JWT.Algorithm;
+import org.example.simplejwt.JWT.KeySize;
+import org.example.simplejwt.JwtBuilder;
+import org.example.simplejwt.JwtComponenet.ParsedJwt;
+import org.example.simplejwt.JwtVerifier;
+import org.example.simplejwt.benchmark.JwtFixtures.ClaimSet;
+import org.example.simplejwt.benchmark.JwtFixtures.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * RSA 키 크기별 JWT 생성, 검증 벤치마크
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JwtKeySizeBenchmark {
+
+	@Param({"RS256", "PS256"})
+	private Algorithm algorithm;
+
+	@Param
+	private KeySize keySize;
+
+	private JwtBuilder builder;
+	private JwtVerifier verifier;
+	private String token;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Keys keys = JwtFixtures.keys(algorithm, keySize);
+		builder = JwtFixtures.builder(algorithm, keys, ClaimSet.SMALL);
+		token = builder.build();
+		verifier = JWT.parser().verifier(keys.verifyingKey());
+	}
+
+	@Benchmark
+	public String build() {
+		return builder.build();
+	}
+
+	@Benchmark
+	public ParsedJwt parse() {
+		return verifier.parse(token);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public ParsedJwt parseMultiThreaded() {
+		return verifier.parse(token);
+	}
+}
@@ -0,0 +1,78 @@
+package org.example.simplejwt.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.simplejwt.JWT;
+import org.example.simplejwt.JWT.Algorithm;
+import org.example.simplejwt.JWT.Encoding;
+import org.example.simplejwt.JWT.KeySize;
+import org.example.simplejwt.JwtComponenet.Header;
+import org.example.simplejwt.JwtComponenet.ParsedJwt;
+import org.example.simplejwt.JwtComponenet.Payload;
+import org.example.simplejwt.JwtVerifier;
+import org.example.simplejwt.benchmark.JwtFixtures.ClaimSet;
+import org.example.simplejwt.benchmark.JwtFixtures.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * JWT 검증 벤치마크(전체 알고리즘 x 클레임 세트 크기 x 인코딩)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JwtParseBenchmark {
+
+	@Param
+	private Algorithm algorithm;
+
+	@Param
+	private ClaimSet claimSet;
+
+	@Param
+	private Encoding encoding;
+
+	private JwtVerifier verifier;
+	private String token;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Keys keys = JwtFixtures.keys(algorithm, KeySize.LOW);
+		token = JwtFixtures.builder(algorithm, keys, claimSet).encoding(encoding).build();
+		verifier = JWT.parser().verifier(keys.verifyingKey());
+	}
+
+	@Benchmark
+	public Header header() {
+		return verifier.header(token);
+	}
+
+	@Benchmark
+	public Payload payload() {
+		return verifier.payload(token);
+	}
+
+	@Benchmark
+	public ParsedJwt parse() {
+		return verifier.parse(token);
+	}
+
+	@Benchmark
+	public Object parseAndReadAllClaims() {
+		return verifier.payload(token).getClaims();
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public ParsedJwt parseMultiThreaded() {
+		return verifier.parse(token);
+	}
+}
@@ -0,0 +1,85 @@
+package org.example.simplejwt.benchmark;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.example.simplejwt.JWT;
+import org.example.simplejwt.JWT.Algorithm;
+import org.example.simplejwt.JWT.KeySize;
+import org.example.simplejwt.JwtBuilder;
+import org.example.simplejwt.JwtComponenet.Payload;
+import org.example.simplejwt.benchmark.JwtFixtures.ClaimSet;
+import org.example.simplejwt.benchmark.JwtFixtures.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 호출마다 빌더, 검증기를 새로 만드는 기존 API 벤치마크(README 사용 방식)
+ *  - JWT.builder()...build()와 JWT.parser().signedKey(key).payload(token)처럼 재사용 없이 호출하는 경로의 생성 비용을 포함한다.
+ *  - 검증기, 빌더를 재사용하는 JwtBuildBenchmark, JwtParseBenchmark와 비교한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JwtPerCallBenchmark {
+
+	@Param({"HS256", "RS256", "ES256", "EdDSA"})
+	private Algorithm algorithm;
+
+	private Keys keys;
+	private String encodedVerifyingKey;
+	private String token;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		keys = JwtFixtures.keys(algorithm, KeySize.LOW);
+		encodedVerifyingKey = Base64.getUrlEncoder().encodeToString(keys.verifyingKey().getEncoded());
+		token = JwtFixtures.builder(algorithm, keys, ClaimSet.SMALL).build();
+	}
+
+	/**
+	 * 호출마다 빌더 생성 후 발급
+	 */
+	@Benchmark
+	public String build() {
+		JwtBuilder builder = JWT.builder().algorithm(algorithm);
+		if (keys.signingKey() instanceof SecretKey secretKey) {
+			builder.secretKey(secretKey);
+		} else {
+			builder.privateKey((PrivateKey)keys.signingKey());
+		}
+		return builder.issuer("simple-jwt-benchmark")
+			.subject("user-1234567890")
+			.build();
+	}
+
+	/**
+	 * Base64 인코딩 키로 호출마다 검증기 생성 후 검증(signedKey)
+	 */
+	@Benchmark
+	public Payload signedKeyPayload() {
+		return JWT.parser().signedKey(encodedVerifyingKey).payload(token);
+	}
+
+	/**
+	 * Key 객체로 호출마다 검증기 생성 후 검증(SecretKey는 verifier, PublicKey는 publicKey)
+	 */
+	@Benchmark
+	public Payload keyPayload() {
+		if (keys.verifyingKey() instanceof PublicKey publicKey) {
+			return JWT.parser().publicKey(publicKey).payload(token);
+		}
+		return JWT.parser().verifier(keys.verifyingKey()).payload(token);
+	}
+}
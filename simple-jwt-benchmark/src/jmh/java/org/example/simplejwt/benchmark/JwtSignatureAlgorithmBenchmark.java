@@ -0,0 +1,55 @@
+package org.example.simplejwt.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.simplejwt.JWT;
+import org.example.simplejwt.JWT.Algorithm;
+import org.example.simplejwt.JWT.KeySize;
+import org.example.simplejwt.JwtBuilder;
+import org.example.simplejwt.JwtComponenet.ParsedJwt;
+import org.example.simplejwt.JwtVerifier;
+import org.example.simplejwt.benchmark.JwtFixtures.ClaimSet;
+import org.example.simplejwt.benchmark.JwtFixtures.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 서비스 간 토큰용 비대칭 알고리즘 비교 벤치마크(RS256, ES256, EdDSA)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JwtSignatureAlgorithmBenchmark {
+
+	@Param({"RS256", "ES256", "EdDSA"})
+	private Algorithm algorithm;
+
+	private JwtBuilder builder;
+	private JwtVerifier verifier;
+	private String token;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Keys keys = JwtFixtures.keys(algorithm, KeySize.LOW);
+		builder = JwtFixtures.builder(algorithm, keys, ClaimSet.SMALL);
+		token = builder.build();
+		verifier = JWT.parser().verifier(keys.verifyingKey());
+	}
+
+	@Benchmark
+	public String sign() {
+		return builder.build();
+	}
+
+	@Benchmark
+	public ParsedJwt verify() {
+		return verifier.parse(token);
+	}
+}
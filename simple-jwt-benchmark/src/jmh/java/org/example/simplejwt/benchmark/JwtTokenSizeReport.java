@@ -0,0 +1,34 @@
+package org.example.simplejwt.benchmark;
+
+import org.example.simplejwt.JWT.Algorithm;
+import org.example.simplejwt.JWT.Encoding;
+import org.example.simplejwt.JWT.KeySize;
+import org.example.simplejwt.JwtBuilder;
+import org.example.simplejwt.benchmark.JwtFixtures.ClaimSet;
+import org.example.simplejwt.benchmark.JwtFixtures.Keys;
+
+/**
+ * 클레임 세트, 인코딩, 압축 여부별 토큰 길이 출력(벤치마크 측정과 분리)
+ *  - 실행: ./gradlew :simple-jwt-benchmark:tokenSizes
+ */
+public class JwtTokenSizeReport {
+
+	public static void main(String[] args) {
+		Keys keys = JwtFixtures.keys(Algorithm.HS256, KeySize.LOW);
+		System.out.printf("%-8s %-6s %12s %12s%n", "claimSet", "enc", "plain", "compressed");
+		for (ClaimSet claimSet : ClaimSet.values()) {
+			for (Encoding encoding : Encoding.values()) {
+				System.out.printf("%-8s %-6s %12d %12d%n", claimSet, encoding,
+					tokenLength(keys, claimSet, encoding, false), tokenLength(keys, claimSet, encoding, true));
+			}
+		}
+	}
+
+	private static int tokenLength(Keys keys, ClaimSet claimSet, Encoding encoding, boolean compressed) {
+		JwtBuilder builder = JwtFixtures.builder(Algorithm.HS256, keys, claimSet).encoding(encoding);
+		if (compressed) {
+			builder.compress(0);
+		}
+		return builder.build().length();
+	}
+}
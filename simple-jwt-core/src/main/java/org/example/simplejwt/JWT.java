@@ -38,7 +38,8 @@ public class JWT {
 	}
 
 	/**
-	 * RSA, EC 키 쌍(개인키, 공개키) 생성
+	 * RSA, EC, EdDSA 키 쌍(개인키, 공개키) 생성
+	 *  - EdDSA는 KeySize.HIGH인 경우 Ed448, 그 외에는 Ed25519 키를 생성한다.
 	 * @param algorithm
 	 * @param keySize
 	 * @return
@@ -55,6 +56,7 @@ public class JWT {
 			case RS256, RS384, RS512,
 				 PS256, PS384, PS512 -> JwtKeyGenerator.generateRsaKeyPair(algorithm.shortName, keySize.size);
 			case ES256, ES384, ES512 -> JwtKeyGenerator.generateEcdsaKeyPair(algorithm.shortName, keySize.size);
+			case EdDSA -> JwtKeyGenerator.generateEdDsaKeyPair(keySize == KeySize.HIGH ? "Ed448" : "Ed25519");
 			default -> throw new JwtException(JwtErrorCode.UNSUPPORTED_ALGORITHM);
 		};
 	}
@@ -63,25 +65,28 @@ public class JWT {
 	 * JWT 알고리즘
 	 */
 	public enum Algorithm {
-		HS256("HS", "HmacSHA256"),
-		HS384("HS", "HmacSHA384"),
-		HS512("HS", "HmacSHA512"),
-		RS256("RSA", "SHA256withRSA"),
-		RS384("RSA", "SHA384withRSA"),
-		RS512("RSA", "SHA512withRSA"),
-		ES256("EC", "SHA256withECDSA"),
-		ES384("EC", "SHA384withECDSA"),
-		ES512("EC", "SHA256withECDSA"),
-		PS256("RSA", "SHA-256"),
-		PS384("RSA", "SHA-384"),
-		PS512("RSA", "SHA-512");
+		HS256("HS", "HmacSHA256", 5),
+		HS384("HS", "HmacSHA384", 6),
+		HS512("HS", "HmacSHA512", 7),
+		RS256("RSA", "SHA256withRSA", -257),
+		RS384("RSA", "SHA384withRSA", -258),
+		RS512("RSA", "SHA512withRSA", -259),
+		ES256("EC", "SHA256withECDSA", -7),
+		ES384("EC", "SHA384withECDSA", -35),
+		ES512("EC", "SHA256withECDSA", -36),
+		PS256("RSA", "SHA-256", -37),
+		PS384("RSA", "SHA-384", -38),
+		PS512("RSA", "SHA-512", -39),
+		EdDSA("EdDSA", "EdDSA", -8);
 
 		private final String shortName;
 		private final String fullName;
+		private final int coseId;
 
-		Algorithm(String shortName, String fullName) {
+		Algorithm(String shortName, String fullName, int coseId) {
 			this.shortName = shortName;
 			this.fullName = fullName;
+			this.coseId = coseId;
 		}
 
 		public String shortName() {
@@ -91,6 +96,51 @@ public class JWT {
 		public String fullName() {
 			return fullName;
 		}
+
+		/**
+		 * COSE 알고리즘 식별자(CBOR 인코딩 Header에 사용)
+		 */
+		public int coseId() {
+			return coseId;
+		}
+
+		/**
+		 * Header의 alg 값으로 알고리즘 조회
+		 * @throws JwtException 지원하지 않는 알고리즘인 경우(UNSUPPORTED_ALGORITHM)
+		 */
+		public static Algorithm from(String alg) {
+			if (alg != null) {
+				for (Algorithm algorithm : values()) {
+					if (algorithm.name().equals(alg)) {
+						return algorithm;
+					}
+				}
+			}
+			throw new JwtException(JwtException.JwtErrorCode.UNSUPPORTED_ALGORITHM, "Unsupported algorithm: " + alg);
+		}
+
+		/**
+		 * COSE 알고리즘 식별자로 알고리즘 조회
+		 * @throws JwtException 지원하지 않는 알고리즘인 경우(UNSUPPORTED_ALGORITHM)
+		 */
+		public static Algorithm fromCoseId(int coseId) {
+			for (Algorithm algorithm : values()) {
+				if (algorithm.coseId == coseId) {
+					return algorithm;
+				}
+			}
+			throw new JwtException(JwtException.JwtErrorCode.UNSUPPORTED_ALGORITHM, "Unsupported algorithm: " + coseId);
+		}
+	}
+
+	/**
+	 * Header, Payload 인코딩 방식
+	 *  - JSON: 표준 JWT
+	 *  - CBOR: CWT 형식의 정수 클레임 키와 COSE 알고리즘 식별자를 사용하는 CBOR 인코딩(내부 서비스 간 통신용)
+	 */
+	public enum Encoding {
+		JSON,
+		CBOR
 	}
 
 	/**
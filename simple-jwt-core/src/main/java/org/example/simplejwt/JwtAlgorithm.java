@@ -1,7 +1,11 @@
 package org.example.simplejwt;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
-import java.security.InvalidAlgorithmParameterException;
+import java.security.GeneralSecurityException;
 import java.security.InvalidKeyException;
 import java.security.Key;
 import java.security.KeyFactory;
@@ -9,19 +13,52 @@ import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.Signature;
-import java.security.SignatureException;
+import java.security.interfaces.ECKey;
+import java.security.interfaces.EdECKey;
+import java.security.interfaces.RSAKey;
 import java.security.spec.MGF1ParameterSpec;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.PSSParameterSpec;
 import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.SecretKeySpec;
 
 import org.example.simplejwt.JWT.Algorithm;
 import org.example.simplejwt.JwtException.JwtErrorCode;
 
 public class JwtAlgorithm {
+	private static final int DEFAULT_MAX_SIGNATURE_LENGTH = 1024;
+	private static final Set<Algorithm> HMAC_ALGORITHMS = EnumSet.of(Algorithm.HS256, Algorithm.HS384, Algorithm.HS512);
+	// SubjectPublicKeyInfo 알고리즘 OID(DER 인코딩) -> 사용할 수 있는 알고리즘
+	private static final Map<byte[], Set<Algorithm>> PUBLIC_KEY_OIDS = new LinkedHashMap<>();
+	// 외부 SEQUENCE(최대 4바이트) + AlgorithmIdentifier SEQUENCE(2바이트) + OID(최대 11바이트)를 포함하는 Base64 길이
+	private static final int KEY_INFO_PREFIX_LENGTH = 24;
+
+	static {
+		Set<Algorithm> rsa = EnumSet.of(Algorithm.RS256, Algorithm.RS384, Algorithm.RS512,
+			Algorithm.PS256, Algorithm.PS384, Algorithm.PS512);
+		// rsaEncryption(1.2.840.113549.1.1.1), RSASSA-PSS(1.2.840.113549.1.1.10)
+		PUBLIC_KEY_OIDS.put(new byte[] {0x2a, (byte)0x86, 0x48, (byte)0x86, (byte)0xf7, 0x0d, 0x01, 0x01, 0x01}, rsa);
+		PUBLIC_KEY_OIDS.put(new byte[] {0x2a, (byte)0x86, 0x48, (byte)0x86, (byte)0xf7, 0x0d, 0x01, 0x01, 0x0a}, rsa);
+		// id-ecPublicKey(1.2.840.10045.2.1)
+		PUBLIC_KEY_OIDS.put(new byte[] {0x2a, (byte)0x86, 0x48, (byte)0xce, 0x3d, 0x02, 0x01},
+			EnumSet.of(Algorithm.ES256, Algorithm.ES384, Algorithm.ES512));
+		// Ed25519(1.3.101.112), Ed448(1.3.101.113)
+		PUBLIC_KEY_OIDS.put(new byte[] {0x2b, 0x65, 0x70}, EnumSet.of(Algorithm.EdDSA));
+		PUBLIC_KEY_OIDS.put(new byte[] {0x2b, 0x65, 0x71}, EnumSet.of(Algorithm.EdDSA));
+	}
 
 	/**
 	 * 암호화 처리 실행 클래스
@@ -31,11 +68,39 @@ public class JwtAlgorithm {
 		private AlgorithmService algorithmService;
 
 		public AlgorithmExecutor(Algorithm algorithm, String key, AlgorithmKeyType keyType) {
+			this(algorithm, key, keyType, true);
+		}
+
+		/**
+		 * @param shared 여러 번, 여러 스레드에서 사용하는 실행기인지 여부
+		 *               (JwtVerifier, JwtTemplate, JwtKeyRing은 true, 한 번 발급하고 버리는 JwtBuilder는 false)
+		 */
+		AlgorithmExecutor(Algorithm algorithm, String key, AlgorithmKeyType keyType, boolean shared) {
 			this.algorithmService = switch (algorithm) {
-				case HS256, HS384, HS512 -> new HmacAlgorithmService(algorithm, key);
+				case HS256, HS384, HS512 -> new HmacAlgorithmService(algorithm, JwtSupporter.decodeBase64(key), shared);
 				case RS256, RS384, RS512 -> new RsaAlgorithmService(algorithm, key, keyType);
 				case ES256, ES384, ES512 -> new EcdsaAlgorithmService(algorithm, key, keyType);
 				case PS256, PS384, PS512 -> new RsassaPssAlgorithmService(algorithm, key, keyType);
+				case EdDSA -> new EdDsaAlgorithmService(algorithm, key, keyType);
+				default -> throw new JwtException(JwtErrorCode.UNSUPPORTED_ALGORITHM, "Unsupported algorithm: " + algorithm);
+			};
+		}
+
+		/**
+		 * @throws JwtException 키 종류와 알고리즘이 맞지 않는 경우(UNSUPPORTED_ALGORITHM)
+		 */
+		public AlgorithmExecutor(Algorithm algorithm, Key key) {
+			this(algorithm, key, true);
+		}
+
+		AlgorithmExecutor(Algorithm algorithm, Key key, boolean shared) {
+			checkKeyAlgorithm(algorithm, algorithmsOf(key));
+			this.algorithmService = switch (algorithm) {
+				case HS256, HS384, HS512 -> new HmacAlgorithmService(algorithm, key.getEncoded(), shared);
+				case RS256, RS384, RS512 -> new RsaAlgorithmService(algorithm, key);
+				case ES256, ES384, ES512 -> new EcdsaAlgorithmService(algorithm, key);
+				case PS256, PS384, PS512 -> new RsassaPssAlgorithmService(algorithm, key);
+				case EdDSA -> new EdDsaAlgorithmService(algorithm, key);
 				default -> throw new JwtException(JwtErrorCode.UNSUPPORTED_ALGORITHM, "Unsupported algorithm: " + algorithm);
 			};
 		}
@@ -44,9 +109,25 @@ public class JwtAlgorithm {
 			return algorithmService.sign(value);
 		}
 
+		public byte[] execute(ByteBuffer value) {
+			return algorithmService.sign(value);
+		}
+
 		public boolean verify(String data, String exprectedSignature) {
 			return algorithmService.verify(data, exprectedSignature);
 		}
+
+		public boolean verify(ByteBuffer data, ByteBuffer exprectedSignature) {
+			return algorithmService.verify(data, exprectedSignature);
+		}
+
+		public int maxSignatureLength() {
+			return algorithmService.maxSignatureLength();
+		}
+
+		public SignatureUpdater updater() {
+			return algorithmService.updater();
+		}
 	}
 
 	/**
@@ -64,7 +145,7 @@ public class JwtAlgorithm {
 				case HS256, HS384, HS512 -> {
 					return AlgorithmKeyType.SECRET_KEY;
 				}
-				case RS256, RS384, RS512, ES256, ES384, ES512, PS256, PS384, PS512 -> {
+				case RS256, RS384, RS512, ES256, ES384, ES512, PS256, PS384, PS512, EdDSA -> {
 					if (isHashingProcess) {
 						return AlgorithmKeyType.PRIVATE_KEY;
 					} else {
@@ -79,197 +160,608 @@ public class JwtAlgorithm {
 
 	/**
 	 * 암호화 처리 인터페이스
+	 *  - 외부 구현체는 sign(String), verify(String, String)만 구현하면 되며,
+	 *    ByteBuffer, 스트리밍 메서드의 기본 구현은 문자열 메서드로 위임한다(내장 구현체는 복사 없이 처리하도록 재정의).
 	 */
 	public interface AlgorithmService {
 		byte[] sign(String value);
+
 		boolean verify(String data, String exprectedSignature);
 
+		/**
+		 * 서명 생성
+		 * @param value 서명 대상(position부터 limit까지)
+		 */
+		default byte[] sign(ByteBuffer value) {
+			return sign(decodeUtf8(value));
+		}
+
+		/**
+		 * 서명 검증
+		 * @param data 서명 대상(position부터 limit까지)
+		 * @param exprectedSignature Base64url로 인코딩된 서명 세그먼트
+		 */
+		default boolean verify(ByteBuffer data, ByteBuffer exprectedSignature) {
+			return verify(decodeUtf8(data), decodeUtf8(exprectedSignature));
+		}
+
+		/**
+		 * 서명 길이의 최대값(토큰 출력 버퍼 크기 계산에 사용)
+		 */
+		default int maxSignatureLength() {
+			return DEFAULT_MAX_SIGNATURE_LENGTH;
+		}
+
+		/**
+		 * 서명 대상을 여러 구간으로 나누어 전달하는 스트리밍 서명, 검증 시작
+		 *  - 기본 구현은 전체 서명 대상을 메모리에 모은 뒤 sign(ByteBuffer), verify(ByteBuffer, ByteBuffer)를 호출한다.
+		 */
+		default SignatureUpdater updater() {
+			return new BufferedSignatureUpdater(this);
+		}
+
 		default PrivateKey getPrivateKeyFromBase64(String key, String algorithm) {
-			try {
-				byte[] keyBytes = JwtSupporter.decodeBase64(key);
-				PKCS8EncodedKeySpec keySpec = new PKCS8EncodedKeySpec(keyBytes);
-				KeyFactory keyFactory = KeyFactory.getInstance(algorithm);
-				return keyFactory.generatePrivate(keySpec);
-			} catch (Exception e) {
-				throw new JwtException(JwtErrorCode.SIGNATURE_ERROR, e);
-			}
+			return JwtAlgorithm.getPrivateKeyFromBase64(key, algorithm);
 		}
 
 		default PublicKey getPublicKeyFromBase64(String key, String algorithm) {
-			try {
-				byte[] keyBytes = JwtSupporter.decodeBase64(key);
-				X509EncodedKeySpec keySpec = new X509EncodedKeySpec(keyBytes);
-				KeyFactory keyFactory = KeyFactory.getInstance(algorithm);
-				return keyFactory.generatePublic(keySpec);
-			} catch (Exception e) {
-				throw new JwtException(JwtErrorCode.SIGNATURE_ERROR, e);
-			}
+			return JwtAlgorithm.getPublicKeyFromBase64(key, algorithm);
 		}
 	}
 
+	/**
+	 * 서명 대상을 모두 모은 뒤 한 번에 서명, 검증하는 스트리밍 구현(AlgorithmService 기본 구현)
+	 */
+	static class BufferedSignatureUpdater implements SignatureUpdater {
+		private final AlgorithmService algorithmService;
+		private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+		BufferedSignatureUpdater(AlgorithmService algorithmService) {
+			this.algorithmService = algorithmService;
+		}
+
+		@Override
+		public void update(ByteBuffer chunk) {
+			byte[] bytes = new byte[chunk.remaining()];
+			chunk.get(bytes);
+			buffer.write(bytes, 0, bytes.length);
+		}
+
+		@Override
+		public byte[] sign() {
+			return algorithmService.sign(ByteBuffer.wrap(buffer.toByteArray()));
+		}
+
+		@Override
+		public boolean verify(ByteBuffer exprectedSignature) {
+			return algorithmService.verify(ByteBuffer.wrap(buffer.toByteArray()), exprectedSignature);
+		}
+	}
+
+	/**
+	 * UTF-8 바이트를 문자열로 변환(문자열 API로 위임할 때 사용, 올바르지 않은 UTF-8이면 서명 오류)
+	 */
+	private static String decodeUtf8(ByteBuffer value) {
+		try {
+			return StandardCharsets.UTF_8.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPORT)
+				.onUnmappableCharacter(CodingErrorAction.REPORT)
+				.decode(value)
+				.toString();
+		} catch (CharacterCodingException e) {
+			throw new JwtException(JwtErrorCode.SIGNATURE_ERROR, e);
+		}
+	}
+
+	/**
+	 * 스트리밍 서명, 검증
+	 *  - 서명 대상을 update로 순서대로 전달한 뒤 sign 또는 verify를 한 번 호출한다(이후 재사용 불가).
+	 *  - 하나의 스레드에서 사용하며, 전체 서명 대상을 메모리에 올리지 않고 처리한다.
+	 */
+	public interface SignatureUpdater {
+		/**
+		 * @param chunk 서명 대상 구간(position부터 limit까지, position은 limit으로 이동)
+		 */
+		void update(ByteBuffer chunk);
+
+		byte[] sign();
+
+		/**
+		 * @param exprectedSignature Base64url로 인코딩된 서명 세그먼트
+		 */
+		boolean verify(ByteBuffer exprectedSignature);
+	}
+
 	/**
 	 * HMAC 암호화 구현체
+	 *  - 키로 초기화된 Mac을 템플릿으로 두고, 스레드별로 복제한 Mac을 재사용한다.
+	 *  - 한 번 사용하고 버리는 구현체(shared가 false)는 복제, ThreadLocal 없이 키로 초기화한 Mac을 바로 사용한다.
+	 *  - 서명 검증은 스레드별 버퍼에 계산한 서명을 인코딩하여 상수 시간으로 비교한다.
 	 */
 	public static class HmacAlgorithmService implements AlgorithmService {
 		private final Algorithm algorithm;
-		private final String secretKey;
+		private final SecretKeySpec secretKeySpec;
+		private final Mac template;
+		// 스레드별 Mac(한 번 사용하는 구현체는 null)
+		private final ThreadLocal<MacEngine> engines;
 
 		public HmacAlgorithmService(Algorithm algorithm, String secretKey) {
+			this(algorithm, JwtSupporter.decodeBase64(secretKey));
+		}
+
+		public HmacAlgorithmService(Algorithm algorithm, byte[] secretKey) {
+			this(algorithm, secretKey, true);
+		}
+
+		HmacAlgorithmService(Algorithm algorithm, byte[] secretKey, boolean shared) {
 			this.algorithm = algorithm;
-			this.secretKey = secretKey;
+			this.secretKeySpec = new SecretKeySpec(secretKey, algorithm.fullName());
+			this.template = createMac();
+			this.engines = shared ? ThreadLocal.withInitial(this::newEngine) : null;
+		}
+
+		@Override
+		public byte[] sign(String value) {
+			return sign(ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8)));
+		}
+
+		@Override
+		public boolean verify(String data, String exprectedSignature) {
+			return verify(ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8)),
+				ByteBuffer.wrap(exprectedSignature.getBytes(StandardCharsets.US_ASCII)));
+		}
+
+		@Override
+		public byte[] sign(ByteBuffer data) {
+			Mac mac = Objects.isNull(engines) ? template : engines.get().mac;
+			mac.update(data);
+			return mac.doFinal();
+		}
+
+		@Override
+		public int maxSignatureLength() {
+			return template.getMacLength();
+		}
+
+		@Override
+		public boolean verify(ByteBuffer data, ByteBuffer exprectedSignature) {
+			MacEngine engine = Objects.isNull(engines) ? new MacEngine(template) : engines.get();
+			engine.mac.update(data);
+			return engine.verify(exprectedSignature);
 		}
 
+		/**
+		 * 스레드별 Mac과 상태가 섞이지 않도록 스트리밍마다 복제한 Mac을 사용
+		 */
 		@Override
-		public byte[] sign(String data) {
+		public SignatureUpdater updater() {
+			MacEngine engine = Objects.isNull(engines) ? new MacEngine(template) : newEngine();
+			return new SignatureUpdater() {
+				@Override
+				public void update(ByteBuffer chunk) {
+					engine.mac.update(chunk);
+				}
+
+				@Override
+				public byte[] sign() {
+					return engine.mac.doFinal();
+				}
+
+				@Override
+				public boolean verify(ByteBuffer exprectedSignature) {
+					return engine.verify(exprectedSignature);
+				}
+			};
+		}
+
+		private MacEngine newEngine() {
+			try {
+				return new MacEngine((Mac)template.clone());
+			} catch (CloneNotSupportedException e) {
+				return new MacEngine(createMac());
+			}
+		}
+
+		private Mac createMac() {
 			try {
 				Mac mac = Mac.getInstance(algorithm.fullName());
-				SecretKeySpec secretKeySpec = new SecretKeySpec(JwtSupporter.decodeBase64(secretKey),
-					algorithm.fullName());
 				mac.init(secretKeySpec);
-				return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+				return mac;
 			} catch (NoSuchAlgorithmException | InvalidKeyException e) {
 				throw new JwtException(JwtErrorCode.SIGNATURE_ERROR, e);
 			}
 		}
+	}
 
-		@Override
-		public boolean verify(String data, String exprectedSignature) {
-			byte[] hash = sign(data);
-			String signature = JwtSupporter.encodeBase64ToStringWithoutPadding(hash);
-			return signature.equals(exprectedSignature);
+	/**
+	 * 스레드별 Mac과 서명 검증용 버퍼
+	 */
+	static class MacEngine {
+		private final Mac mac;
+		private final byte[] hash;
+		private final byte[] encodedHash;
+
+		MacEngine(Mac mac) {
+			this.mac = mac;
+			this.hash = new byte[mac.getMacLength()];
+			this.encodedHash = new byte[JwtSupporter.encodedLengthWithoutPadding(hash.length)];
+		}
+
+		/**
+		 * update된 서명 대상의 서명을 계산하여 상수 시간으로 비교
+		 */
+		boolean verify(ByteBuffer exprectedSignature) {
+			try {
+				mac.doFinal(hash, 0);
+			} catch (ShortBufferException e) {
+				throw new JwtException(JwtErrorCode.SIGNATURE_ERROR, e);
+			}
+			JwtSupporter.encodeBase64WithoutPadding(hash, encodedHash);
+			return JwtSupporter.constantTimeEquals(encodedHash, exprectedSignature);
 		}
 	}
 
 	/**
-	 * RSA 암호화 구현체
+	 * Signature 기반(RSA, ECDSA, RSASSA-PSS, EdDSA) 암호화 구현체 공통 처리
+	 *  - Provider 조회와 키 초기화를 마친 Signature 객체를 풀에 보관하고 재사용한다.
 	 */
-	public static class RsaAlgorithmService implements AlgorithmService {
-		private final Algorithm algorithm;
-		private final Key key;
+	public abstract static class SignatureAlgorithmService implements AlgorithmService {
+		protected final Algorithm algorithm;
+		protected final Key key;
+		private final SignaturePool signaturePool;
 
-		public RsaAlgorithmService(Algorithm algorithm, String keyText, AlgorithmKeyType keyType) {
+		protected SignatureAlgorithmService(Algorithm algorithm, Key key) {
 			this.algorithm = algorithm;
-			if (keyType == AlgorithmKeyType.PRIVATE_KEY) {
-				this.key = getPrivateKeyFromBase64(keyText, algorithm.shortName());
-			} else {
-				this.key = getPublicKeyFromBase64(keyText, algorithm.shortName());
+			this.key = key;
+			this.signaturePool = new SignaturePool(this::createInitializedSignature);
+		}
+
+		/**
+		 * 알고리즘에 맞는 Signature 엔진 생성(키 초기화 전)
+		 */
+		protected abstract Signature createSignature() throws GeneralSecurityException;
+
+		@Override
+		public byte[] sign(String value) {
+			return sign(ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8)));
+		}
+
+		@Override
+		public boolean verify(String data, String exprectedSignature) {
+			return verify(ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8)),
+				ByteBuffer.wrap(exprectedSignature.getBytes(StandardCharsets.US_ASCII)));
+		}
+
+		@Override
+		public byte[] sign(ByteBuffer data) {
+			try {
+				Signature signature = signaturePool.borrow();
+				signature.update(data);
+				byte[] hash = signature.sign();
+				signaturePool.release(signature);
+				return hash;
+			} catch (GeneralSecurityException e) {
+				throw new JwtException(JwtErrorCode.SIGNATURE_ERROR, e);
 			}
 		}
 
 		@Override
-		public byte[] sign(String data) {
+		public boolean verify(ByteBuffer data, ByteBuffer exprectedSignature) {
+			byte[] signatureBytes = JwtSupporter.decodeBase64(exprectedSignature);
 			try {
-				Signature signature = Signature.getInstance(algorithm.fullName());
-				signature.initSign((PrivateKey)key);
-				signature.update(data.getBytes(StandardCharsets.UTF_8));
-				return signature.sign();
-			} catch (NoSuchAlgorithmException | InvalidKeyException | SignatureException e) {
+				Signature signature = signaturePool.borrow();
+				signature.update(data);
+				boolean verified = signature.verify(signatureBytes);
+				signaturePool.release(signature);
+				return verified;
+			} catch (GeneralSecurityException e) {
 				throw new JwtException(JwtErrorCode.SIGNATURE_ERROR, e);
 			}
 		}
 
+		/**
+		 * 풀에서 Signature를 빌려 스트리밍 처리 후 반납(중간에 중단된 경우 반납하지 않음)
+		 */
 		@Override
-		public boolean verify(String data, String exprectedSignature) {
+		public SignatureUpdater updater() {
+			Signature signature;
 			try {
-				Signature signature = Signature.getInstance(algorithm.fullName());
-				signature.initVerify((PublicKey)key);
-				signature.update(data.getBytes(StandardCharsets.UTF_8));
-				return signature.verify(JwtSupporter.decodeBase64(exprectedSignature));
-			} catch (NoSuchAlgorithmException | InvalidKeyException | SignatureException e) {
+				signature = signaturePool.borrow();
+			} catch (GeneralSecurityException e) {
 				throw new JwtException(JwtErrorCode.SIGNATURE_ERROR, e);
 			}
+			return new SignatureUpdater() {
+				@Override
+				public void update(ByteBuffer chunk) {
+					try {
+						signature.update(chunk);
+					} catch (GeneralSecurityException e) {
+						throw new JwtException(JwtErrorCode.SIGNATURE_ERROR, e);
+					}
+				}
+
+				@Override
+				public byte[] sign() {
+					try {
+						byte[] hash = signature.sign();
+						signaturePool.release(signature);
+						return hash;
+					} catch (GeneralSecurityException e) {
+						throw new JwtException(JwtErrorCode.SIGNATURE_ERROR, e);
+					}
+				}
+
+				@Override
+				public boolean verify(ByteBuffer exprectedSignature) {
+					byte[] signatureBytes = JwtSupporter.decodeBase64(exprectedSignature);
+					try {
+						boolean verified = signature.verify(signatureBytes);
+						signaturePool.release(signature);
+						return verified;
+					} catch (GeneralSecurityException e) {
+						throw new JwtException(JwtErrorCode.SIGNATURE_ERROR, e);
+					}
+				}
+			};
+		}
+
+		@Override
+		public int maxSignatureLength() {
+			if (key instanceof RSAKey rsaKey) {
+				return (rsaKey.getModulus().bitLength() + 7) / 8;
+			}
+			if (key instanceof ECKey ecKey) {
+				// DER 인코딩: SEQUENCE { INTEGER r, INTEGER s }
+				int size = (ecKey.getParams().getOrder().bitLength() + 7) / 8;
+				return 2 * (size + 1) + 8;
+			}
+			if (key instanceof EdECKey edKey) {
+				// Ed25519: 64바이트, Ed448: 114바이트
+				return "Ed448".equalsIgnoreCase(edKey.getParams().getName()) ? 114 : 64;
+			}
+			return DEFAULT_MAX_SIGNATURE_LENGTH;
+		}
+
+		private Signature createInitializedSignature() throws GeneralSecurityException {
+			Signature signature = createSignature();
+			if (key instanceof PrivateKey privateKey) {
+				signature.initSign(privateKey);
+			} else if (key instanceof PublicKey publicKey) {
+				signature.initVerify(publicKey);
+			} else {
+				throw new JwtException(JwtErrorCode.UNSUPPORTED_ALGORITHM,
+					"Algorithm " + algorithm + " cannot be used with the given key");
+			}
+			return signature;
 		}
 	}
 
 	/**
-	 * ECDSA 암호화 구현체
+	 * RSA 암호화 구현체
 	 */
-	public static class EcdsaAlgorithmService implements AlgorithmService {
-		private final Algorithm algorithm;
-		private final Key key;
+	public static class RsaAlgorithmService extends SignatureAlgorithmService {
 
-		public EcdsaAlgorithmService(Algorithm algorithm, String keyText, AlgorithmKeyType keyType) {
-			this.algorithm = algorithm;
+		public RsaAlgorithmService(Algorithm algorithm, String keyText, AlgorithmKeyType keyType) {
+			this(algorithm, getKeyFromBase64(keyText, algorithm.shortName(), keyType));
+		}
 
-			if (keyType == AlgorithmKeyType.PRIVATE_KEY) {
-				this.key = getPrivateKeyFromBase64(keyText, algorithm.shortName());
-			} else {
-				this.key = getPublicKeyFromBase64(keyText, algorithm.shortName());
-			}
+		public RsaAlgorithmService(Algorithm algorithm, Key key) {
+			super(algorithm, key);
 		}
 
 		@Override
-		public byte[] sign(String data) {
-			try {
-				Signature signature = Signature.getInstance(algorithm.fullName());
-				signature.initSign((PrivateKey)key);
-				signature.update(data.getBytes(StandardCharsets.UTF_8));
-				return signature.sign();
-			} catch (NoSuchAlgorithmException | InvalidKeyException | SignatureException e) {
-				throw new JwtException(JwtErrorCode.SIGNATURE_ERROR, e);
-			}
+		protected Signature createSignature() throws GeneralSecurityException {
+			return Signature.getInstance(algorithm.fullName());
+		}
+	}
+
+	/**
+	 * ECDSA 암호화 구현체
+	 */
+	public static class EcdsaAlgorithmService extends SignatureAlgorithmService {
+
+		public EcdsaAlgorithmService(Algorithm algorithm, String keyText, AlgorithmKeyType keyType) {
+			this(algorithm, getKeyFromBase64(keyText, algorithm.shortName(), keyType));
+		}
+
+		public EcdsaAlgorithmService(Algorithm algorithm, Key key) {
+			super(algorithm, key);
 		}
 
 		@Override
-		public boolean verify(String data, String exprectedSignature) {
-			try {
-				Signature signature = Signature.getInstance(algorithm.fullName());
-				signature.initVerify((PublicKey)key);
-				signature.update(data.getBytes(StandardCharsets.UTF_8));
-				return signature.verify(JwtSupporter.decodeBase64(exprectedSignature));
-			} catch (NoSuchAlgorithmException | InvalidKeyException | SignatureException e) {
-				throw new JwtException(JwtErrorCode.SIGNATURE_ERROR, e);
-			}
+		protected Signature createSignature() throws GeneralSecurityException {
+			return Signature.getInstance(algorithm.fullName());
 		}
 	}
 
 	/**
 	 * RSASSA 암호화 구현체
 	 */
-	public static class RsassaPssAlgorithmService implements AlgorithmService {
-		private final Algorithm algorithm;
-		private final Key key;
+	public static class RsassaPssAlgorithmService extends SignatureAlgorithmService {
+		private final PSSParameterSpec parameterSpec;
 
 		public RsassaPssAlgorithmService(Algorithm algorithm, String keyText, AlgorithmKeyType keyType) {
-			this.algorithm = algorithm;
-			if (keyType == AlgorithmKeyType.PRIVATE_KEY) {
-				this.key = getPrivateKeyFromBase64(keyText, algorithm.shortName());
-			} else {
-				this.key = getPublicKeyFromBase64(keyText, algorithm.shortName());
-			}
+			this(algorithm, getKeyFromBase64(keyText, algorithm.shortName(), keyType));
+		}
+
+		public RsassaPssAlgorithmService(Algorithm algorithm, Key key) {
+			super(algorithm, key);
+			this.parameterSpec = new PSSParameterSpec(algorithm.fullName(), "MGF1",
+				new MGF1ParameterSpec(algorithm.fullName()), 32, 1);
 		}
 
 		@Override
-		public byte[] sign(String data) {
-			try {
-				Signature signature = Signature.getInstance("RSASSA-PSS");
-				signature.setParameter(
-					new PSSParameterSpec(algorithm.fullName(), "MGF1", new MGF1ParameterSpec(algorithm.fullName()), 32,
-						1));
-				signature.initSign((PrivateKey)key);
-				signature.update(data.getBytes(StandardCharsets.UTF_8));
-				return signature.sign();
-			} catch (NoSuchAlgorithmException | InvalidKeyException | SignatureException |
-					 InvalidAlgorithmParameterException e) {
-				throw new JwtException(JwtErrorCode.SIGNATURE_ERROR, e);
-			}
+		protected Signature createSignature() throws GeneralSecurityException {
+			Signature signature = Signature.getInstance("RSASSA-PSS");
+			signature.setParameter(parameterSpec);
+			return signature;
+		}
+	}
+
+	/**
+	 * EdDSA(Ed25519, Ed448) 암호화 구현체
+	 *  - 곡선은 키에서 결정되며 서명 시 별도의 해시 알고리즘을 지정하지 않는다.
+	 */
+	public static class EdDsaAlgorithmService extends SignatureAlgorithmService {
+
+		public EdDsaAlgorithmService(Algorithm algorithm, String keyText, AlgorithmKeyType keyType) {
+			this(algorithm, getKeyFromBase64(keyText, algorithm.shortName(), keyType));
+		}
+
+		public EdDsaAlgorithmService(Algorithm algorithm, Key key) {
+			super(algorithm, key);
 		}
 
 		@Override
-		public boolean verify(String data, String exprectedSignature) {
-			try {
-				Signature signature = Signature.getInstance("RSASSA-PSS");
-				signature.setParameter(
-					new PSSParameterSpec(algorithm.fullName(), "MGF1", new MGF1ParameterSpec(algorithm.fullName()), 32,
-						1));
-				signature.initVerify((PublicKey)key);
-				signature.update(data.getBytes(StandardCharsets.UTF_8));
-				return signature.verify(JwtSupporter.decodeBase64(exprectedSignature));
-			} catch (NoSuchAlgorithmException | InvalidKeyException | SignatureException |
-					 InvalidAlgorithmParameterException e) {
-				throw new JwtException(JwtErrorCode.SIGNATURE_ERROR, e);
+		protected Signature createSignature() throws GeneralSecurityException {
+			return Signature.getInstance(algorithm.fullName());
+		}
+	}
+
+	/**
+	 * 초기화된 Signature 객체 풀
+	 *  - Signature는 sign/verify 호출 후 초기화 직후 상태로 돌아가므로 그대로 재사용할 수 있다.
+	 *  - 예외가 발생한 객체는 상태를 보장할 수 없으므로 반납하지 않고 버린다.
+	 */
+	static class SignaturePool {
+		private static final int MAX_IDLE_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+		private final SignatureFactory factory;
+		private final Queue<Signature> signatures = new ConcurrentLinkedQueue<>();
+		private final AtomicInteger idleSize = new AtomicInteger();
+
+		SignaturePool(SignatureFactory factory) {
+			this.factory = factory;
+		}
+
+		Signature borrow() throws GeneralSecurityException {
+			Signature signature = signatures.poll();
+			if (Objects.isNull(signature)) {
+				return factory.create();
+			}
+			idleSize.decrementAndGet();
+			return signature;
+		}
+
+		void release(Signature signature) {
+			if (idleSize.incrementAndGet() > MAX_IDLE_SIZE) {
+				idleSize.decrementAndGet();
+				return;
+			}
+			signatures.offer(signature);
+		}
+	}
+
+	@FunctionalInterface
+	interface SignatureFactory {
+		Signature create() throws GeneralSecurityException;
+	}
+
+	/**
+	 * 키 종류로 사용할 수 있는 알고리즘 조회
+	 *  - SecretKey는 HS, RSA 키는 RS, PS, EC 키는 ES, EdEC 키는 EdDSA 알고리즘만 사용할 수 있다.
+	 *  - 공개키의 인코딩 바이트를 HMAC 시크릿으로 사용하는 알고리즘 혼동 공격을 막는다.
+	 */
+	static Set<Algorithm> algorithmsOf(Key key) {
+		String keyAlgorithm = String.valueOf(key.getAlgorithm());
+		if (key instanceof SecretKey) {
+			return EnumSet.copyOf(HMAC_ALGORITHMS);
+		}
+		if (key instanceof RSAKey || keyAlgorithm.equals("RSA") || keyAlgorithm.equals("RSASSA-PSS")) {
+			return EnumSet.of(Algorithm.RS256, Algorithm.RS384, Algorithm.RS512,
+				Algorithm.PS256, Algorithm.PS384, Algorithm.PS512);
+		}
+		if (key instanceof ECKey || keyAlgorithm.equals("EC")) {
+			return EnumSet.of(Algorithm.ES256, Algorithm.ES384, Algorithm.ES512);
+		}
+		if (key instanceof EdECKey || keyAlgorithm.equals("EdDSA") || keyAlgorithm.startsWith("Ed")) {
+			return EnumSet.of(Algorithm.EdDSA);
+		}
+		return EnumSet.noneOf(Algorithm.class);
+	}
+
+	/**
+	 * Base64로 인코딩된 검증 키로 사용할 수 있는 알고리즘 조회
+	 *  - X.509 공개키(SubjectPublicKeyInfo)의 알고리즘 OID로 키 종류를 판단하고, 그렇지 않으면 HMAC 시크릿 키로 본다.
+	 *  - 검증기 생성마다 호출되므로 KeyFactory로 키를 해석하지 않고 DER 앞부분의 바이트만 비교한다.
+	 */
+	static Set<Algorithm> algorithmsOf(String encodedKey) {
+		// DER SEQUENCE(0x30)로 시작하는 키는 Base64로 'M'부터 시작
+		if (encodedKey.length() < KEY_INFO_PREFIX_LENGTH || encodedKey.charAt(0) != 'M') {
+			return EnumSet.copyOf(HMAC_ALGORITHMS);
+		}
+		byte[] prefix;
+		try {
+			prefix = JwtSupporter.decodeBase64(encodedKey.substring(0, KEY_INFO_PREFIX_LENGTH));
+		} catch (IllegalArgumentException e) {
+			return EnumSet.copyOf(HMAC_ALGORITHMS);
+		}
+		// SEQUENCE { SEQUENCE { OBJECT IDENTIFIER, ... }, BIT STRING }
+		int index = skipSequenceHeader(prefix, skipSequenceHeader(prefix, 0));
+		if (index >= 0 && index + 1 < prefix.length && prefix[index] == 0x06) {
+			int oidLength = prefix[index + 1];
+			for (Map.Entry<byte[], Set<Algorithm>> keyType : PUBLIC_KEY_OIDS.entrySet()) {
+				byte[] oid = keyType.getKey();
+				if (oidLength == oid.length && index + 2 + oid.length <= prefix.length
+					&& Arrays.equals(prefix, index + 2, index + 2 + oid.length, oid, 0, oid.length)) {
+					return EnumSet.copyOf(keyType.getValue());
+				}
 			}
 		}
+		return EnumSet.copyOf(HMAC_ALGORITHMS);
+	}
+
+	/**
+	 * DER SEQUENCE 태그와 길이를 건너뛴 위치(SEQUENCE가 아니면 -1)
+	 */
+	private static int skipSequenceHeader(byte[] der, int index) {
+		if (index < 0 || index + 1 >= der.length || der[index] != 0x30) {
+			return -1;
+		}
+		int length = der[index + 1] & 0xff;
+		if (length < 0x80) {
+			return index + 2;
+		}
+		return length <= 0x82 ? index + 2 + (length & 0x7f) : -1;
+	}
+
+	/**
+	 * 키 종류와 알고리즘이 맞는지 확인
+	 */
+	static void checkKeyAlgorithm(Algorithm algorithm, Set<Algorithm> keyAlgorithms) {
+		if (!keyAlgorithms.contains(algorithm)) {
+			throw new JwtException(JwtErrorCode.UNSUPPORTED_ALGORITHM,
+				"Algorithm " + algorithm + " cannot be used with the given key");
+		}
+	}
+
+	static Key getKeyFromBase64(String key, String algorithm, AlgorithmKeyType keyType) {
+		if (keyType == AlgorithmKeyType.PRIVATE_KEY) {
+			return getPrivateKeyFromBase64(key, algorithm);
+		}
+		return getPublicKeyFromBase64(key, algorithm);
+	}
+
+	static PrivateKey getPrivateKeyFromBase64(String key, String algorithm) {
+		try {
+			byte[] keyBytes = JwtSupporter.decodeBase64(key);
+			PKCS8EncodedKeySpec keySpec = new PKCS8EncodedKeySpec(keyBytes);
+			KeyFactory keyFactory = KeyFactory.getInstance(algorithm);
+			return keyFactory.generatePrivate(keySpec);
+		} catch (Exception e) {
+			throw new JwtException(JwtErrorCode.SIGNATURE_ERROR, e);
+		}
+	}
+
+	static PublicKey getPublicKeyFromBase64(String key, String algorithm) {
+		try {
+			byte[] keyBytes = JwtSupporter.decodeBase64(key);
+			X509EncodedKeySpec keySpec = new X509EncodedKeySpec(keyBytes);
+			KeyFactory keyFactory = KeyFactory.getInstance(algorithm);
+			return keyFactory.generatePublic(keySpec);
+		} catch (Exception e) {
+			throw new JwtException(JwtErrorCode.SIGNATURE_ERROR, e);
+		}
 	}
 
 }
@@ -0,0 +1,247 @@
+package org.example.simplejwt;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.simplejwt.JwtComponenet.ParsedJwt;
+import org.example.simplejwt.JwtComponenet.Payload;
+import org.example.simplejwt.JwtException.JwtErrorCode;
+import org.example.simplejwt.JwtVerifier.VerificationResult;
+
+/**
+ * 비동기 JWT 검증기
+ *  - 서명 검증을 지정한 Executor에서 실행하여 이벤트 루프 스레드를 막지 않는다.
+ *  - 동시에 처리 중인 검증 수를 제한하며, 한도를 넘는 요청은 즉시 TOO_MANY_PENDING_VERIFICATIONS로 실패한다.
+ *  - Executor를 지정하지 않으면 ForkJoinPool 공용 풀(CPU 수만큼의 플랫폼 스레드)을 사용한다.
+ *  - 스레드별로 재사용하는 Mac, 다이제스트, 직렬화 버퍼가 유지되도록 작업마다 새 스레드를 만드는 Executor는 기본값으로 쓰지 않는다.
+ */
+public class JwtAsyncVerifier {
+	public static final int DEFAULT_MAX_PENDING = 1024;
+
+	private final JwtVerifier verifier;
+	private final Executor executor;
+	private final int maxPending;
+	private final Semaphore permits;
+
+	JwtAsyncVerifier(JwtVerifier verifier, Executor executor, int maxPending) {
+		if (Objects.isNull(executor)) {
+			throw new JwtException(JwtErrorCode.INVALID_CONFIGURATION, "Executor is required");
+		}
+		if (maxPending <= 0) {
+			throw new JwtException(JwtErrorCode.INVALID_CONFIGURATION, "Max pending must be greater than 0");
+		}
+		this.verifier = verifier;
+		this.executor = executor;
+		this.maxPending = maxPending;
+		this.permits = new Semaphore(maxPending);
+	}
+
+	/**
+	 * 기본 Executor(ForkJoinPool 공용 풀)
+	 */
+	static Executor defaultExecutor() {
+		return ForkJoinPool.commonPool();
+	}
+
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	public int getMaxPending() {
+		return maxPending;
+	}
+
+	/**
+	 * 현재 처리 중인 검증 수
+	 */
+	public int getPendingCount() {
+		return maxPending - permits.availablePermits();
+	}
+
+	/**
+	 * JWT 비동기 검증 및 추출
+	 * @param token JWT 토큰
+	 * @return 검증된 JWT(검증 실패 또는 처리 한도 초과 시 JwtException으로 완료)
+	 */
+	public CompletableFuture<ParsedJwt> parse(String token) {
+		if (!permits.tryAcquire()) {
+			return CompletableFuture.failedFuture(new JwtException(JwtErrorCode.TOO_MANY_PENDING_VERIFICATIONS));
+		}
+		try {
+			// 결과를 전달하기 전에 반납하여 완료된 호출자가 바로 다음 요청을 보낼 수 있도록 한다.
+			return CompletableFuture.supplyAsync(() -> {
+				try {
+					return verifier.parse(token);
+				} finally {
+					permits.release();
+				}
+			}, executor);
+		} catch (RejectedExecutionException e) {
+			permits.release();
+			return CompletableFuture.failedFuture(new JwtException(JwtErrorCode.TOO_MANY_PENDING_VERIFICATIONS, e));
+		}
+	}
+
+	/**
+	 * JWT 비동기 검증 후 Payload 추출
+	 */
+	public CompletableFuture<Payload> payload(String token) {
+		return parse(token).thenApply(ParsedJwt::getPayload);
+	}
+
+	/**
+	 * 스트리밍 검증 Processor 생성
+	 *  - 입력 토큰을 검증하여 VerificationResult로 발행하며, 검증 실패도 결과로 전달한다(완료 순서로 발행).
+	 *  - 상위에는 처리 한도와 하위 구독자 버퍼의 남은 공간만큼만 요청하고, 버퍼가 가득 차면 상위 요청을 멈춘다.
+	 * @return 토큰을 입력받아 검증 결과를 발행하는 Processor
+	 */
+	public VerificationProcessor processor() {
+		return new VerificationProcessor(this);
+	}
+
+	/**
+	 * 스트리밍 검증 Processor
+	 *  - 상위 요청량을 처리 한도와 하위 버퍼의 남은 공간으로 제한하여 발행 시 대기하지 않는다(offer).
+	 *  - 하위 구독자가 결과를 소비하면 그만큼 상위에 다시 요청한다.
+	 */
+	public static class VerificationProcessor extends SubmissionPublisher<VerificationResult>
+		implements Flow.Processor<String, VerificationResult> {
+		private final JwtAsyncVerifier asyncVerifier;
+		private final AtomicInteger inFlight = new AtomicInteger();
+		// 상위에 요청했지만 아직 발행하지 않은 토큰 수
+		private final AtomicInteger requested = new AtomicInteger();
+		private volatile Flow.Subscription subscription;
+		private volatile boolean upstreamCompleted;
+
+		private VerificationProcessor(JwtAsyncVerifier asyncVerifier) {
+			super(asyncVerifier.executor, Flow.defaultBufferSize());
+			this.asyncVerifier = asyncVerifier;
+		}
+
+		@Override
+		public void subscribe(Flow.Subscriber<? super VerificationResult> subscriber) {
+			super.subscribe(new DemandSubscriber(subscriber));
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			if (Objects.nonNull(this.subscription)) {
+				subscription.cancel();
+				return;
+			}
+			this.subscription = subscription;
+			requestMore();
+		}
+
+		@Override
+		public void onNext(String token) {
+			inFlight.incrementAndGet();
+			try {
+				asyncVerifier.executor.execute(() -> publish(asyncVerifier.verifier.verifyQuietly(token)));
+			} catch (RejectedExecutionException e) {
+				// Executor가 거부한 토큰도 실패 결과로 전달하고 처리 한도를 반납
+				publish(new VerificationResult(token, null,
+					new JwtException(JwtErrorCode.TOO_MANY_PENDING_VERIFICATIONS, e)));
+			}
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			closeExceptionally(throwable);
+		}
+
+		@Override
+		public void onComplete() {
+			upstreamCompleted = true;
+			if (inFlight.get() == 0) {
+				close();
+			}
+		}
+
+		private void publish(VerificationResult result) {
+			try {
+				if (!isClosed()) {
+					offer(result, this::onDrop);
+				}
+			} finally {
+				requested.decrementAndGet();
+				if (inFlight.decrementAndGet() == 0 && upstreamCompleted) {
+					close();
+				} else {
+					requestMore();
+				}
+			}
+		}
+
+		/**
+		 * 하위 버퍼가 가득 차 결과를 전달하지 못한 경우(요청량 제한으로 정상적으로는 발생하지 않음)
+		 *  - 결과를 잃은 채 계속 진행하지 않도록 상위 구독을 취소하고 스트림을 오류로 종료한다.
+		 */
+		private boolean onDrop(Flow.Subscriber<? super VerificationResult> subscriber, VerificationResult result) {
+			subscription.cancel();
+			closeExceptionally(new JwtException(JwtErrorCode.TOO_MANY_PENDING_VERIFICATIONS, "Subscriber buffer is full"));
+			return false;
+		}
+
+		/**
+		 * 처리 한도와 하위 버퍼의 남은 공간 중 작은 값에서 이미 요청한 수를 뺀 만큼 상위에 요청
+		 */
+		private void requestMore() {
+			Flow.Subscription current = subscription;
+			if (Objects.isNull(current) || isClosed()) {
+				return;
+			}
+			int limit = Math.min(asyncVerifier.maxPending, getMaxBufferCapacity() - estimateMaximumLag());
+			while (true) {
+				int pending = requested.get();
+				int count = limit - pending;
+				if (count <= 0) {
+					return;
+				}
+				if (requested.compareAndSet(pending, pending + count)) {
+					current.request(count);
+					return;
+				}
+			}
+		}
+
+		/**
+		 * 하위 구독자가 결과를 소비할 때마다 상위 요청 재개
+		 */
+		private class DemandSubscriber implements Flow.Subscriber<VerificationResult> {
+			private final Flow.Subscriber<? super VerificationResult> subscriber;
+
+			private DemandSubscriber(Flow.Subscriber<? super VerificationResult> subscriber) {
+				this.subscriber = subscriber;
+			}
+
+			@Override
+			public void onSubscribe(Flow.Subscription subscription) {
+				subscriber.onSubscribe(subscription);
+			}
+
+			@Override
+			public void onNext(VerificationResult item) {
+				subscriber.onNext(item);
+				requestMore();
+			}
+
+			@Override
+			public void onError(Throwable throwable) {
+				subscriber.onError(throwable);
+			}
+
+			@Override
+			public void onComplete() {
+				subscriber.onComplete();
+			}
+		}
+	}
+}
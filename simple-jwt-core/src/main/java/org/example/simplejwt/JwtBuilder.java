@@ -1,37 +1,55 @@
 package org.example.simplejwt;
 
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.security.Key;
 import java.security.PrivateKey;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
 
 import javax.crypto.SecretKey;
 
 import org.example.simplejwt.JWT.Algorithm;
+import org.example.simplejwt.JWT.Encoding;
+import org.example.simplejwt.JwtAlgorithm.AlgorithmExecutor;
+import org.example.simplejwt.JwtAlgorithm.AlgorithmKeyType;
 import org.example.simplejwt.JwtComponenet.Header;
-import org.example.simplejwt.JwtComponenet.Payload;
-import org.example.simplejwt.JwtComponenet.Signature;
+import org.example.simplejwt.JwtMetrics.Phase;
+import org.example.simplejwt.JwtSerializer.SerializedToken;
+import org.example.simplejwt.JwtSupporter.JsonBuffer;
 
 public class JwtBuilder {
 	private String secretKey;
+	private Key key;
 	private Algorithm algorithm;
+	private String keyId;
+	private Encoding encoding = Encoding.JSON;
+	private int minCompressionLength = Integer.MAX_VALUE;
+	private JwtMetrics metrics = JwtMetrics.NOOP;
 	private Map<String, Object> claims = new HashMap<>();
 
 	/* Builder */
 	public JwtBuilder secretKey(String secretKey) {
 		this.secretKey = secretKey;
+		this.key = null;
 		return this;
 	}
 
 	public JwtBuilder secretKey(SecretKey secretKey) {
-		this.secretKey = JwtSupporter.encodeBase64ToString(secretKey.getEncoded());
+		this.secretKey = null;
+		this.key = secretKey;
 		return this;
 	}
 
 	public JwtBuilder privateKey(PrivateKey privateKey) {
-		this.secretKey = JwtSupporter.encodeBase64ToString(privateKey.getEncoded());
+		this.secretKey = null;
+		this.key = privateKey;
 		return this;
 	}
 
@@ -40,6 +58,45 @@ public class JwtBuilder {
 		return this;
 	}
 
+	/**
+	 * Header, Payload 인코딩 방식(기본값: JSON)
+	 *  - CBOR는 CWT 형식의 정수 클레임 키를 사용하여 토큰 크기를 줄인다. 검증 시에는 인코딩을 자동으로 구분한다.
+	 */
+	public JwtBuilder encoding(Encoding encoding) {
+		this.encoding = Objects.isNull(encoding) ? Encoding.JSON : encoding;
+		return this;
+	}
+
+	/**
+	 * Payload DEFLATE 압축 사용(Header의 zip: "DEF")
+	 *  - 직렬화된 Payload가 minPayloadLength 바이트 이상인 경우에만 압축한다. 작은 Payload는 압축 효과보다 비용이 크다.
+	 * @param minPayloadLength 압축을 적용할 Payload의 최소 길이
+	 */
+	public JwtBuilder compress(int minPayloadLength) {
+		if (minPayloadLength < 0) {
+			throw new JwtException(JwtException.JwtErrorCode.INVALID_CONFIGURATION, "Min payload length must not be negative");
+		}
+		this.minCompressionLength = minPayloadLength;
+		return this;
+	}
+
+	/**
+	 * 서명 키 식별자(Header의 kid)
+	 *  - 검증 측 JwtKeyRing에서 kid로 검증 키를 조회한다.
+	 */
+	public JwtBuilder keyId(String keyId) {
+		this.keyId = keyId;
+		return this;
+	}
+
+	/**
+	 * 생성 지표 수집기(기본값: 수집하지 않음)
+	 */
+	public JwtBuilder metrics(JwtMetrics metrics) {
+		this.metrics = Objects.isNull(metrics) ? JwtMetrics.NOOP : metrics;
+		return this;
+	}
+
 	public JwtBuilder issuer(String issuer) {
 		this.claims.put("issuer", issuer);
 		return this;
@@ -55,6 +112,19 @@ public class JwtBuilder {
 		return this;
 	}
 
+	public JwtBuilder jwtId(String jwtId) {
+		this.claims.put("jwtId", jwtId);
+		return this;
+	}
+
+	/**
+	 * 임의의 jwtId(UUID) 생성
+	 *  - 폐기 목록(JwtRevocationList)에서 토큰을 식별하는 데 사용한다.
+	 */
+	public JwtBuilder jwtId() {
+		return jwtId(UUID.randomUUID().toString());
+	}
+
 	public JwtBuilder expiration(ZonedDateTime expiration) {
 		this.claims.put("expiration", expiration.toEpochSecond());
 		return this;
@@ -76,29 +146,136 @@ public class JwtBuilder {
 	}
 
 	public String build() {
-		// 1. Validate Required Fields
-		this.validateRequiredFields();
+		return serialize().toString();
+	}
 
-		// 2. Create Header
-		Header header = new Header(this.algorithm);
-		String headerBase64 = JwtSupporter.encodeBase64ToStringWithoutPadding(
-			header.toJson().getBytes(StandardCharsets.UTF_8));
+	/**
+	 * JWT를 생성하여 ByteBuffer에 기록
+	 * @param target 기록 대상 버퍼(position부터 기록)
+	 * @return 기록된 바이트 수
+	 * @throws java.nio.BufferOverflowException 버퍼의 남은 공간이 부족한 경우
+	 */
+	public int build(ByteBuffer target) {
+		return serialize().writeTo(target);
+	}
 
-		// 3. Create Payload
-		Payload payload = new Payload(this.claims);
-		String payloadBase64 = JwtSupporter.encodeBase64ToStringWithoutPadding(
-			payload.toJson().getBytes(StandardCharsets.UTF_8));
+	/**
+	 * JWT를 생성하여 OutputStream에 기록
+	 * @param target 기록 대상 스트림
+	 * @return 기록된 바이트 수
+	 */
+	public int build(OutputStream target) throws IOException {
+		return serialize().writeTo(target);
+	}
+
+	private SerializedToken serialize() {
+		boolean timed = metrics.isEnabled();
+		long start = timed ? System.nanoTime() : 0;
+		try {
+			// 1. Validate Required Fields
+			this.validateRequiredFields();
+
+			// 2. Create Header(kid가 없으면 알고리즘별로 미리 만들어 둔 표준 Header 세그먼트 사용)
+			byte[] headerBase64 = Header.segmentBytes(this.algorithm, this.keyId, this.encoding, null);
+			AlgorithmExecutor algorithmExecutor = createAlgorithmExecutor(false);
+			long time = start;
+			if (timed) {
+				time = System.nanoTime();
+				metrics.onPhase(Phase.HEADER, algorithm, time - start);
+			}
+
+			// 3. Create Payload(스레드별 버퍼에 JSON 또는 CBOR 바이트로 바로 직렬화)
+			JsonBuffer payloadJson;
+			if (encoding == Encoding.CBOR) {
+				payloadJson = JwtSupporter.jsonBuffer();
+				JwtCbor.writeClaims(this.claims, payloadJson);
+			} else {
+				payloadJson = JwtSupporter.writeValueToBuffer(this.claims);
+			}
+			byte[] payload = payloadJson.array();
+			int payloadLength = payloadJson.size();
+			if (payloadLength >= minCompressionLength) {
+				payload = JwtCompression.deflate(payload, 0, payloadLength);
+				payloadLength = payload.length;
+				headerBase64 = Header.segmentBytes(this.algorithm, this.keyId, this.encoding, JwtCompression.DEFLATE);
+			}
+			if (timed) {
+				metrics.onPhase(Phase.PAYLOAD, algorithm, System.nanoTime() - time);
+			}
+
+			// 4. Create Signature & Return JWT(HEADER.PAYLOAD.SIGNATURE)
+			SerializedToken token = JwtSerializer.serialize(headerBase64, payload, 0, payloadLength,
+				algorithmExecutor, metrics, algorithm);
+			if (timed) {
+				metrics.onBuilt(algorithm, token.length(), System.nanoTime() - start);
+			}
+			return token;
+		} catch (JwtException e) {
+			if (timed) {
+				metrics.onError(e.getErrorCode());
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 분리 Payload 서명(RFC 7797, b64: false)
+	 *  - 입력을 일정 크기씩 읽어 서명하므로 큰 파일도 메모리에 올리지 않는다. 설정한 클레임은 사용하지 않는다.
+	 * @param content 서명할 원본 Payload(끝까지 읽고 닫지 않음)
+	 * @return HEADER..SIGNATURE
+	 */
+	public String sign(InputStream content) throws IOException {
+		return sign(JwtDetached.Content.of(content));
+	}
+
+	/**
+	 * 채널(FileChannel 등)에서 읽은 분리 Payload 서명
+	 */
+	public String sign(ReadableByteChannel content) throws IOException {
+		return sign(JwtDetached.Content.of(content));
+	}
+
+	/**
+	 * ByteBuffer(position부터 limit까지, 메모리 매핑 파일 포함)에 담긴 분리 Payload 서명
+	 */
+	public String sign(ByteBuffer content) {
+		try {
+			return sign(JwtDetached.Content.of(content));
+		} catch (IOException e) {
+			throw new JwtException(JwtException.JwtErrorCode.SIGNATURE_ERROR, e);
+		}
+	}
+
+	private String sign(JwtDetached.Content content) throws IOException {
+		this.validateRequiredFields();
+		return JwtDetached.sign(createAlgorithmExecutor(false), Header.unencodedSegmentBytes(algorithm, keyId), content);
+	}
 
-		// 4. Create Signature
-		Signature signature = new Signature(headerBase64, payloadBase64, secretKey, algorithm);
-		String signatureHashBase64 = JwtSupporter.encodeBase64ToStringWithoutPadding(signature.toHash());
+	/**
+	 * 재사용 가능한 JWT 발급 템플릿 생성
+	 *  - 현재까지 설정한 알고리즘, 키, 클레임을 고정하고 이후 발급 시에는 변하는 클레임만 전달한다.
+	 * @return JwtTemplate
+	 */
+	public JwtTemplate template() {
+		this.validateRequiredFields();
+		byte[] compressedHeaderSegment = minCompressionLength == Integer.MAX_VALUE ? null
+			: Header.segmentBytes(algorithm, keyId, encoding, JwtCompression.DEFLATE);
+		return new JwtTemplate(algorithm, Header.segmentBytes(algorithm, keyId, encoding, null), compressedHeaderSegment,
+			minCompressionLength, createAlgorithmExecutor(true), claims, metrics, encoding);
+	}
 
-		// 5. Return JWT(HEADER.PAYLOAD.SIGNATURE)
-		return headerBase64 + "." + payloadBase64 + "." + signatureHashBase64;
+	/**
+	 * @param shared 템플릿처럼 여러 번 사용하는 실행기인지 여부(build, sign은 한 번 사용하고 버림)
+	 */
+	private AlgorithmExecutor createAlgorithmExecutor(boolean shared) {
+		if (Objects.nonNull(key)) {
+			return new AlgorithmExecutor(algorithm, key, shared);
+		}
+		return new AlgorithmExecutor(algorithm, secretKey, AlgorithmKeyType.of(algorithm, true), shared);
 	}
 
 	private void validateRequiredFields() {
-		if (Objects.isNull(secretKey)) {
+		if (Objects.isNull(secretKey) && Objects.isNull(key)) {
 			throw new JwtException(JwtException.JwtErrorCode.SECRET_KEY_REQUIRED);
 		}
 		if (Objects.isNull(algorithm)) {
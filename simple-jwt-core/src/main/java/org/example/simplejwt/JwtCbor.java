@@ -0,0 +1,172 @@
+package org.example.simplejwt;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+import org.example.simplejwt.JWT.Algorithm;
+import org.example.simplejwt.JwtComponenet.Header;
+import org.example.simplejwt.JwtException.JwtErrorCode;
+
+/**
+ * CBOR(CWT 형식) Header, Payload 인코딩
+ *  - Header: {1: COSE 알고리즘 식별자, 4: kid, "zip": 압축 방식}
+ *  - Payload: 등록 클레임은 CWT 정수 키(issuer 1, subject 2, audience 3, expiration 4, notBeforeAt 5, issuedAt 6,
+ *    jwtId 7)로, 그 외 클레임은 문자열 키로 기록한다.
+ *  - 토큰은 JSON 인코딩과 같은 HEADER.PAYLOAD.SIGNATURE(Base64url) 형식이며, 디코딩된 첫 바이트로 인코딩을 구분한다.
+ */
+class JwtCbor {
+	private static final CBORMapper cborMapper = new CBORMapper();
+
+	private static final int HEADER_ALG = 1;
+	private static final int HEADER_KID = 4;
+	private static final String HEADER_ZIP = "zip";
+	private static final String[] CLAIM_NAMES = {
+		null, "issuer", "subject", "audience", "expiration", "notBeforeAt", "issuedAt", "jwtId"};
+	private static final Map<String, Integer> CLAIM_KEYS = new HashMap<>();
+
+	static {
+		for (int key = 1; key < CLAIM_NAMES.length; key++) {
+			CLAIM_KEYS.put(CLAIM_NAMES[key], key);
+		}
+	}
+
+	/**
+	 * CBOR 맵(major type 5)으로 시작하는지 확인(JSON 객체는 '{'로 시작)
+	 */
+	public static boolean isCbor(byte[] value) {
+		return value.length > 0 && (value[0] & 0xe0) == 0xa0;
+	}
+
+	public static byte[] writeHeader(Algorithm algorithm, String kid, String zip) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(32);
+		try (CBORGenerator generator = cborMapper.getFactory().createGenerator(out)) {
+			generator.writeStartObject(1 + (Objects.isNull(kid) ? 0 : 1) + (Objects.isNull(zip) ? 0 : 1));
+			generator.writeFieldId(HEADER_ALG);
+			generator.writeNumber(algorithm.coseId());
+			if (Objects.nonNull(kid)) {
+				generator.writeFieldId(HEADER_KID);
+				generator.writeString(kid);
+			}
+			if (Objects.nonNull(zip)) {
+				generator.writeFieldName(HEADER_ZIP);
+				generator.writeString(zip);
+			}
+			generator.writeEndObject();
+		} catch (IOException e) {
+			throw new JwtException(JwtErrorCode.PARSING_ERROR, e);
+		}
+		return out.toByteArray();
+	}
+
+	public static Header readHeader(byte[] value) {
+		Algorithm algorithm = null;
+		String kid = null;
+		String zip = null;
+		try (JsonParser parser = cborMapper.getFactory().createParser(value)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new JwtException(JwtErrorCode.PARSING_ERROR, "Header must be a CBOR map");
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String label = parser.getCurrentName();
+				boolean integerLabel = isIntegerLabel(parser, value);
+				JsonToken token = parser.nextToken();
+				if (integerLabel && String.valueOf(HEADER_ALG).equals(label) && token == JsonToken.VALUE_NUMBER_INT) {
+					algorithm = Algorithm.fromCoseId(parser.getIntValue());
+				} else if (integerLabel && String.valueOf(HEADER_KID).equals(label) && token == JsonToken.VALUE_STRING) {
+					kid = parser.getText();
+				} else if (HEADER_ZIP.equals(label) && token == JsonToken.VALUE_STRING) {
+					zip = parser.getText();
+				} else {
+					parser.skipChildren();
+				}
+			}
+		} catch (IOException e) {
+			throw new JwtException(JwtErrorCode.PARSING_ERROR, e);
+		}
+		if (Objects.isNull(algorithm)) {
+			throw new JwtException(JwtErrorCode.UNSUPPORTED_ALGORITHM, "Header does not contain an algorithm");
+		}
+		return new Header(algorithm, kid, zip);
+	}
+
+	/**
+	 * 클레임을 CBOR 맵으로 기록(등록 클레임은 정수 키 사용)
+	 */
+	public static void writeClaims(Map<String, Object> claims, OutputStream out) {
+		try (CBORGenerator generator = cborMapper.getFactory().createGenerator(out)) {
+			// 길이가 정해진 맵으로 기록(무한 길이 맵의 시작, 종료 바이트를 쓰지 않음)
+			generator.writeStartObject(claims.size());
+			for (Map.Entry<String, Object> claim : claims.entrySet()) {
+				Integer key = CLAIM_KEYS.get(claim.getKey());
+				if (Objects.isNull(key)) {
+					generator.writeFieldName(claim.getKey());
+				} else {
+					generator.writeFieldId(key);
+				}
+				generator.writeObject(claim.getValue());
+			}
+			generator.writeEndObject();
+		} catch (IOException e) {
+			throw new JwtException(JwtErrorCode.PARSING_ERROR, e);
+		}
+	}
+
+	/**
+	 * CBOR 맵을 클레임 Map으로 변환(정수 키만 클레임 이름으로 변환하고 텍스트 키는 그대로 사용)
+	 */
+	public static Map<String, Object> readClaims(byte[] value) {
+		Map<String, Object> claims = new HashMap<>();
+		try (JsonParser parser = cborMapper.getFactory().createParser(value)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new JwtException(JwtErrorCode.PARSING_ERROR, "Payload must be a CBOR map");
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String label = parser.getCurrentName();
+				String name = isIntegerLabel(parser, value) ? claimName(label) : label;
+				parser.nextToken();
+				claims.put(name, parser.readValueAs(Object.class));
+			}
+			if (Objects.nonNull(parser.nextToken())) {
+				throw new JwtException(JwtErrorCode.PARSING_ERROR, "Payload must be a CBOR map");
+			}
+		} catch (IOException e) {
+			throw new JwtException(JwtErrorCode.PARSING_ERROR, e);
+		}
+		return claims;
+	}
+
+	/**
+	 * 현재 필드의 키가 CBOR 정수(major type 0, 1)인지 확인
+	 *  - 파서는 정수 키도 문자열로 돌려주므로 키의 첫 바이트로 구분한다(텍스트 키 "4"는 정수 키 4와 다름).
+	 */
+	private static boolean isIntegerLabel(JsonParser parser, byte[] value) {
+		long offset = parser.getTokenLocation().getByteOffset();
+		if (offset < 0 || offset >= value.length) {
+			return false;
+		}
+		int majorType = value[(int)offset] & 0xe0;
+		return majorType == 0x00 || majorType == 0x20;
+	}
+
+	/**
+	 * 정수 키를 등록 클레임 이름으로 변환(등록되지 않은 정수 키는 그대로 사용)
+	 */
+	private static String claimName(String label) {
+		if (label.length() == 1) {
+			int key = label.charAt(0) - '0';
+			if (key > 0 && key < CLAIM_NAMES.length) {
+				return CLAIM_NAMES[key];
+			}
+		}
+		return label;
+	}
+}
@@ -0,0 +1,95 @@
+package org.example.simplejwt;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.example.simplejwt.JwtException.JwtErrorCode;
+
+/**
+ * JWT 시간 검증에 사용하는 시계
+ *  - 현재 시각을 epoch second로 제공하며, 검증 시 ZonedDateTime, 시간대 변환 없이 정수 비교만 수행한다.
+ */
+@FunctionalInterface
+public interface JwtClock {
+
+	/**
+	 * 현재 시각(epoch second)
+	 */
+	long currentEpochSecond();
+
+	/**
+	 * 시스템 시계
+	 */
+	static JwtClock system() {
+		return () -> System.currentTimeMillis() / 1000;
+	}
+
+	/**
+	 * 고정된 시각을 반환하는 시계(테스트용)
+	 */
+	static JwtClock fixed(Instant instant) {
+		if (Objects.isNull(instant)) {
+			throw new JwtException(JwtErrorCode.INVALID_CONFIGURATION, "Instant is required");
+		}
+		long epochSecond = instant.getEpochSecond();
+		return () -> epochSecond;
+	}
+
+	/**
+	 * java.time.Clock을 사용하는 시계
+	 */
+	static JwtClock of(Clock clock) {
+		if (Objects.isNull(clock)) {
+			throw new JwtException(JwtErrorCode.INVALID_CONFIGURATION, "Clock is required");
+		}
+		return () -> clock.millis() / 1000;
+	}
+
+	/**
+	 * 주기적으로 갱신되는 시계
+	 *  - 데몬 스레드가 interval마다 현재 시각을 갱신하고, 조회 시에는 volatile 필드만 읽는다.
+	 *  - 처리량이 높은 환경에서 토큰마다 시스템 시계를 조회하는 비용을 줄인다(정밀도는 interval 이내).
+	 * @param interval 갱신 주기
+	 */
+	static CoarseClock coarse(Duration interval) {
+		return new CoarseClock(interval);
+	}
+
+	/**
+	 * 주기적으로 갱신되는 시계(사용이 끝나면 close로 갱신 스레드 종료)
+	 */
+	final class CoarseClock implements JwtClock, AutoCloseable {
+		private final ScheduledExecutorService scheduler;
+		private volatile long epochSecond;
+
+		private CoarseClock(Duration interval) {
+			if (Objects.isNull(interval) || interval.isNegative() || interval.isZero()) {
+				throw new JwtException(JwtErrorCode.INVALID_CONFIGURATION, "Interval must be greater than 0");
+			}
+			this.epochSecond = System.currentTimeMillis() / 1000;
+			this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "simple-jwt-coarse-clock");
+				thread.setDaemon(true);
+				return thread;
+			});
+			long intervalMillis = Math.max(1, interval.toMillis());
+			scheduler.scheduleAtFixedRate(() -> epochSecond = System.currentTimeMillis() / 1000,
+				intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+		}
+
+		@Override
+		public long currentEpochSecond() {
+			return epochSecond;
+		}
+
+		@Override
+		public void close() {
+			scheduler.shutdownNow();
+		}
+	}
+}
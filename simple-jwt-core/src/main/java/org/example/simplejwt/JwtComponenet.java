@@ -1,12 +1,22 @@
 package org.example.simplejwt;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import org.example.simplejwt.JWT.Algorithm;
+import org.example.simplejwt.JWT.Encoding;
 import org.example.simplejwt.JwtAlgorithm.AlgorithmExecutor;
 import org.example.simplejwt.JwtAlgorithm.AlgorithmKeyType;
 import org.example.simplejwt.JwtException.JwtErrorCode;
@@ -17,8 +27,35 @@ public class JwtComponenet {
 	 * JWT Header
 	 */
 	public static class Header {
+		private static final Header[] CANONICAL_HEADERS = new Header[Algorithm.values().length];
+		private static final String[] CANONICAL_SEGMENTS = new String[Algorithm.values().length];
+		private static final byte[][] CANONICAL_SEGMENT_BYTES = new byte[Algorithm.values().length][];
+		private static final byte[][] CANONICAL_CBOR_SEGMENT_BYTES = new byte[Algorithm.values().length][];
+
+		// 알고리즘별 표준 Header({"alg":"HS256","typ":"JWT"}, CBOR {1: alg})의 Base64url 세그먼트 미리 생성
+		static {
+			for (Algorithm algorithm : Algorithm.values()) {
+				Header header = new Header(algorithm);
+				String segment = JwtSupporter.encodeBase64ToStringWithoutPadding(
+					header.toJson().getBytes(StandardCharsets.UTF_8));
+				CANONICAL_HEADERS[algorithm.ordinal()] = header;
+				CANONICAL_SEGMENTS[algorithm.ordinal()] = segment;
+				CANONICAL_SEGMENT_BYTES[algorithm.ordinal()] = segment.getBytes(StandardCharsets.US_ASCII);
+				CANONICAL_CBOR_SEGMENT_BYTES[algorithm.ordinal()] = JwtSupporter.encodeBase64WithoutPadding(
+					JwtCbor.writeHeader(algorithm, null, null));
+			}
+		}
+
 		private String alg;
 		private String typ = "JWT";
+		@JsonInclude(JsonInclude.Include.NON_NULL)
+		private String kid;
+		@JsonInclude(JsonInclude.Include.NON_NULL)
+		private String zip;
+		@JsonInclude(JsonInclude.Include.NON_NULL)
+		private Boolean b64;
+		@JsonInclude(JsonInclude.Include.NON_NULL)
+		private List<String> crit;
 
 		private Header() {
 		}
@@ -27,6 +64,111 @@ public class JwtComponenet {
 			this.alg = alg.toString();
 		}
 
+		/**
+		 * @param kid 서명 키 식별자(null이면 Header에 포함하지 않음)
+		 */
+		public Header(Algorithm alg, String kid) {
+			this(alg, kid, null);
+		}
+
+		/**
+		 * @param zip Payload 압축 방식(null이면 Header에 포함하지 않음)
+		 */
+		public Header(Algorithm alg, String kid, String zip) {
+			this.alg = alg.toString();
+			this.kid = kid;
+			this.zip = zip;
+		}
+
+		/**
+		 * 알고리즘별 표준 Header의 Base64url 세그먼트
+		 */
+		public static String canonicalSegment(Algorithm algorithm) {
+			return CANONICAL_SEGMENTS[algorithm.ordinal()];
+		}
+
+		static byte[] canonicalSegmentBytes(Algorithm algorithm) {
+			return CANONICAL_SEGMENT_BYTES[algorithm.ordinal()];
+		}
+
+		/**
+		 * Header 세그먼트 바이트(kid, zip이 없으면 미리 만들어 둔 표준 세그먼트 사용)
+		 */
+		static byte[] segmentBytes(Algorithm algorithm, String kid, Encoding encoding, String zip) {
+			boolean canonical = Objects.isNull(kid) && Objects.isNull(zip);
+			if (encoding == Encoding.CBOR) {
+				if (canonical) {
+					return CANONICAL_CBOR_SEGMENT_BYTES[algorithm.ordinal()];
+				}
+				return JwtSupporter.encodeBase64WithoutPadding(JwtCbor.writeHeader(algorithm, kid, zip));
+			}
+			if (canonical) {
+				return canonicalSegmentBytes(algorithm);
+			}
+			return JwtSupporter.encodeBase64ToStringWithoutPadding(
+				JwtSupporter.writeValueAsBytes(new Header(algorithm, kid, zip))).getBytes(StandardCharsets.US_ASCII);
+		}
+
+		/**
+		 * 인코딩하지 않은 분리 Payload(RFC 7797)의 Header 세그먼트 바이트({"b64":false,"crit":["b64"]} 포함)
+		 */
+		static byte[] unencodedSegmentBytes(Algorithm algorithm, String kid) {
+			Header header = new Header(algorithm, kid);
+			header.b64 = false;
+			header.crit = List.of("b64");
+			return JwtSupporter.encodeBase64ToStringWithoutPadding(JwtSupporter.writeValueAsBytes(header))
+				.getBytes(StandardCharsets.US_ASCII);
+		}
+
+		/**
+		 * 인코딩하지 않은 분리 Payload의 Header인지 확인(crit에는 b64만 허용)
+		 */
+		boolean hasUnencodedPayload() {
+			return Boolean.FALSE.equals(b64) && List.of("b64").equals(crit);
+		}
+
+		/**
+		 * 디코딩된 Header(JSON 또는 CBOR) 해석
+		 */
+		static Header decode(byte[] value) {
+			if (JwtCbor.isCbor(value)) {
+				return JwtCbor.readHeader(value);
+			}
+			return JwtSupporter.readValue(value, Header.class);
+		}
+
+		static Header canonicalHeader(Algorithm algorithm) {
+			return CANONICAL_HEADERS[algorithm.ordinal()];
+		}
+
+		/**
+		 * 표준 Header 세그먼트인지 바이트 비교로 확인하여 알고리즘 조회
+		 *  - JSON 파싱 없이 알고리즘을 결정하며, 표준 형식이 아니면 null을 반환한다.
+		 * @param segment Header 세그먼트(position부터 limit까지)
+		 */
+		static Algorithm canonicalAlgorithm(ByteBuffer segment) {
+			for (Algorithm algorithm : Algorithm.values()) {
+				if (matches(CANONICAL_SEGMENT_BYTES[algorithm.ordinal()], segment)
+					|| matches(CANONICAL_CBOR_SEGMENT_BYTES[algorithm.ordinal()], segment)) {
+					return algorithm;
+				}
+			}
+			return null;
+		}
+
+		private static boolean matches(byte[] canonical, ByteBuffer segment) {
+			int position = segment.position();
+			int length = segment.remaining();
+			if (canonical.length != length) {
+				return false;
+			}
+			int i = 0;
+			while (i < length && canonical[i] == segment.get(position + i)) {
+				i++;
+			}
+			return i == length;
+		}
+
 		public String toJson() {
 			return JwtSupporter.writeValueAsString(this);
 		}
@@ -38,90 +180,205 @@ public class JwtComponenet {
 		public String getTyp() {
 			return typ;
 		}
+
+		public String getKid() {
+			return kid;
+		}
+
+		public String getZip() {
+			return zip;
+		}
+
+		public Boolean getB64() {
+			return b64;
+		}
+
+		public List<String> getCrit() {
+			return crit;
+		}
 	}
 
 	/**
 	 * JWT Payload
+	 *  - JSON 바이트로 생성한 경우 등록 클레임(issuer, subject, audience, 시간 클레임)만 스트리밍으로 읽고,
+	 *    전체 클레임 Map은 다른 클레임을 처음 조회할 때 만든다.
+	 *  - 검증 결과가 캐시로 공유되므로 클레임 Map(중첩 Map, List 포함)은 변경할 수 없다.
 	 */
 	public static class Payload {
-		private Map<String, Object> claims;
+		static final Set<String> REGISTERED_CLAIM_NAMES = Set.of(
+			"issuer", "subject", "audience", "expiration", "notBeforeAt", "issuedAt", "jwtId");
+
+		private volatile Map<String, Object> claims;
+		private final byte[] json;
+		private final Map<String, Object> registeredClaims;
 
 		public Payload(Map<String, Object> claims) {
-			this.claims = claims;
+			this.claims = immutableClaims(claims);
+			this.json = null;
+			this.registeredClaims = null;
+		}
+
+		/**
+		 * 디코딩된 Payload(JSON 또는 CBOR) 해석
+		 *  - CBOR Payload는 정수 클레임 키를 클레임 이름으로 바꾼 Map으로 만든다.
+		 */
+		static Payload decode(byte[] value) {
+			if (JwtCbor.isCbor(value)) {
+				return new Payload(JwtCbor.readClaims(value));
+			}
+			return new Payload(value);
+		}
+
+		Payload(byte[] json) {
+			this.json = json;
+			this.registeredClaims = JwtSupporter.readRegisteredClaims(json, REGISTERED_CLAIM_NAMES);
+		}
+
+		/**
+		 * 디코딩된 JSON 바이트(CBOR 또는 Map으로 생성한 경우 null)
+		 */
+		byte[] json() {
+			return json;
 		}
 
 		public String toJson() {
+			if (Objects.nonNull(json)) {
+				return new String(json, StandardCharsets.UTF_8);
+			}
 			return JwtSupporter.writeValueAsString(this.claims);
 		}
 
+		/**
+		 * 전체 클레임 Map(지연 생성)
+		 */
+		public Map<String, Object> getClaims() {
+			Map<String, Object> result = claims;
+			if (Objects.isNull(result)) {
+				result = immutableClaims(JwtSupporter.readValue(json, Map.class));
+				claims = result;
+			}
+			return result;
+		}
+
+		@SuppressWarnings("unchecked")
+		private static Map<String, Object> immutableClaims(Map<String, Object> claims) {
+			return (Map<String, Object>)immutableValue(claims);
+		}
+
+		private static Object immutableValue(Object value) {
+			if (value instanceof Map) {
+				Map<Object, Object> copy = new LinkedHashMap<>();
+				((Map<?, ?>)value).forEach((key, nested) -> copy.put(key, immutableValue(nested)));
+				return Collections.unmodifiableMap(copy);
+			}
+			if (value instanceof List) {
+				List<Object> copy = new ArrayList<>();
+				((List<?>)value).forEach(nested -> copy.add(immutableValue(nested)));
+				return Collections.unmodifiableList(copy);
+			}
+			return value;
+		}
+
+		/**
+		 * 클레임을 지정한 타입(record, POJO)으로 바인딩
+		 *  - JSON으로 생성된 Payload는 클레임 Map을 거치지 않고 JSON에서 바로 바인딩한다.
+		 * @param claimsType 바인딩 대상 타입
+		 */
+		public <T> T getClaims(Class<T> claimsType) {
+			if (Objects.nonNull(json)) {
+				return JwtSupporter.bindValue(json, claimsType);
+			}
+			return JwtSupporter.convertValue(claims, claimsType);
+		}
+
+		private Object claim(String claimName) {
+			if (Objects.isNull(registeredClaims) || !REGISTERED_CLAIM_NAMES.contains(claimName)) {
+				return getClaims().get(claimName);
+			}
+			Object value = registeredClaims.get(claimName);
+			if (value == JwtSupporter.DEFERRED_CLAIM) {
+				return getClaims().get(claimName);
+			}
+			return value;
+		}
+
 		public String getIssuer() {
-			Object value = claims.get("issuer");
+			Object value = claim("issuer");
 			return value == null ? null : value.toString();
 		}
 
 		public String getSubject() {
-			Object value = claims.get("subject");
+			Object value = claim("subject");
 			return value == null ? null : value.toString();
 		}
 
 		public String getAudience() {
-			Object value = claims.get("audience");
+			Object value = claim("audience");
+			return value == null ? null : value.toString();
+		}
+
+		public String getJwtId() {
+			Object value = claim("jwtId");
 			return value == null ? null : value.toString();
 		}
 
 		public ZonedDateTime getExpiration(ZoneId zoneId) {
-			Object value = claims.get("expiration");
-			if (Objects.isNull(value)) {
-				return null;
-			}
+			return toZonedDateTime(getExpirationEpochSecond(), zoneId);
+		}
 
-			if (value instanceof Long expiration) {
-				Instant instant = Instant.ofEpochSecond(expiration);
-				return ZonedDateTime.ofInstant(instant, zoneId);
-			} else if (value instanceof Integer expiration) {
-				Instant instant = Instant.ofEpochSecond(expiration);
-				return ZonedDateTime.ofInstant(instant, zoneId);
-			}
+		public ZonedDateTime getNotBeforeAt(ZoneId zoneId) {
+			return toZonedDateTime(getNotBeforeAtEpochSecond(), zoneId);
+		}
 
-			throw new JwtException(JwtErrorCode.PARSING_ERROR, "Expiration must be an instance of Long or Integer");
+		public ZonedDateTime getIssuedAt(ZoneId zoneId) {
+			return toZonedDateTime(getIssuedAtEpochSecond(), zoneId);
 		}
 
-		public ZonedDateTime getNotBeforeAt(ZoneId zoneId) {
-			Object value = claims.get("notBeforeAt");
-			if (Objects.isNull(value)) {
-				return null;
-			}
+		/**
+		 * expiration 클레임(epoch second, 없으면 null)
+		 */
+		public Long getExpirationEpochSecond() {
+			return epochSecond("expiration", "Expiration");
+		}
 
-			if (value instanceof Long notBeforeAt) {
-				Instant instant = Instant.ofEpochSecond(notBeforeAt);
-				return ZonedDateTime.ofInstant(instant, zoneId);
-			} else if (value instanceof Integer notBeforeAt) {
-				Instant instant = Instant.ofEpochSecond(notBeforeAt);
-				return ZonedDateTime.ofInstant(instant, zoneId);
-			}
+		/**
+		 * notBeforeAt 클레임(epoch second, 없으면 null)
+		 */
+		public Long getNotBeforeAtEpochSecond() {
+			return epochSecond("notBeforeAt", "NotBeforeAt");
+		}
 
-			throw new JwtException(JwtErrorCode.PARSING_ERROR, "NotBeforeAt must be an instance of Long or Integer");
+		/**
+		 * issuedAt 클레임(epoch second, 없으면 null)
+		 */
+		public Long getIssuedAtEpochSecond() {
+			return epochSecond("issuedAt", "IssuedAt");
 		}
 
-		public ZonedDateTime getIssuedAt(ZoneId zoneId) {
-			Object value = claims.get("issuedAt");
+		private Long epochSecond(String claimName, String displayName) {
+			Object value = claim(claimName);
 			if (Objects.isNull(value)) {
 				return null;
 			}
 
-			if (value instanceof Long issuedAt) {
-				Instant instant = Instant.ofEpochSecond(issuedAt);
-				return ZonedDateTime.ofInstant(instant, zoneId);
-			} else if (value instanceof Integer issuedAt) {
-				Instant instant = Instant.ofEpochSecond(issuedAt);
-				return ZonedDateTime.ofInstant(instant, zoneId);
+			if (value instanceof Long epochSecond) {
+				return epochSecond;
+			} else if (value instanceof Integer epochSecond) {
+				return epochSecond.longValue();
 			}
 
-			throw new JwtException(JwtErrorCode.PARSING_ERROR, "IssuedAt must be an instance of Long or Integer");
+			throw new JwtException(JwtErrorCode.PARSING_ERROR, displayName + " must be an instance of Long or Integer");
+		}
+
+		private static ZonedDateTime toZonedDateTime(Long epochSecond, ZoneId zoneId) {
+			if (Objects.isNull(epochSecond)) {
+				return null;
+			}
+			return ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zoneId);
 		}
 
 		public <T> T getClaim(String claimName, Class<T> clazz) {
-			Object value = claims.get(claimName);
+			Object value = claim(claimName);
 			if (value == null) {
 				return null;
 			}
@@ -132,6 +389,71 @@ public class JwtComponenet {
 		}
 	}
 
+	/**
+	 * 서명 검증이 완료된 JWT
+	 *  - Header, Payload와 함께 원본 Base64 세그먼트를 제공한다.
+	 */
+	public static class ParsedJwt {
+		private final Algorithm algorithm;
+		private final Header header;
+		private final Payload payload;
+		private final JwtScanner.Token token;
+		private String headerSegment;
+		private String payloadSegment;
+		private String signatureSegment;
+
+		public ParsedJwt(Algorithm algorithm, Header header, Payload payload, String headerSegment,
+			String payloadSegment, String signatureSegment) {
+			this.algorithm = algorithm;
+			this.header = header;
+			this.payload = payload;
+			this.token = null;
+			this.headerSegment = headerSegment;
+			this.payloadSegment = payloadSegment;
+			this.signatureSegment = signatureSegment;
+		}
+
+		ParsedJwt(Algorithm algorithm, Header header, Payload payload, JwtScanner.Token token) {
+			this.algorithm = algorithm;
+			this.header = header;
+			this.payload = payload;
+			this.token = token.detached();
+		}
+
+		public Algorithm getAlgorithm() {
+			return algorithm;
+		}
+
+		public Header getHeader() {
+			return header;
+		}
+
+		public Payload getPayload() {
+			return payload;
+		}
+
+		public String getHeaderSegment() {
+			if (Objects.isNull(headerSegment)) {
+				headerSegment = token.headerText();
+			}
+			return headerSegment;
+		}
+
+		public String getPayloadSegment() {
+			if (Objects.isNull(payloadSegment)) {
+				payloadSegment = token.payloadText();
+			}
+			return payloadSegment;
+		}
+
+		public String getSignatureSegment() {
+			if (Objects.isNull(signatureSegment)) {
+				signatureSegment = token.signatureText();
+			}
+			return signatureSegment;
+		}
+	}
+
 	/**
 	 * JWT Signature
 	 */
@@ -147,7 +469,13 @@ public class JwtComponenet {
 			this.payload = payload;
 			this.key = key;
 			this.algorithm = algorithm;
-			this.algorithmExecutor = new AlgorithmExecutor(algorithm, key, AlgorithmKeyType.of(algorithm, true));
+			this.algorithmExecutor = new AlgorithmExecutor(algorithm, key, AlgorithmKeyType.of(algorithm, true), false);
+		}
+
+		public Signature(String header, String payload, AlgorithmExecutor algorithmExecutor) {
+			this.header = header;
+			this.payload = payload;
+			this.algorithmExecutor = algorithmExecutor;
 		}
 
 		public byte[] toHash() {
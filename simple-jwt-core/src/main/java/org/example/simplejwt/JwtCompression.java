@@ -0,0 +1,80 @@
+package org.example.simplejwt;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.example.simplejwt.JwtException.JwtErrorCode;
+
+/**
+ * Payload 압축(Header의 zip: "DEF", RFC 1951 DEFLATE)
+ *  - zlib 헤더 없는 raw DEFLATE를 사용하며, Deflater, Inflater는 스레드별로 재사용한다.
+ *  - 압축 해제 시 최대 길이를 넘으면 즉시 중단하여 압축 폭탄(decompression bomb)을 막는다.
+ */
+class JwtCompression {
+	public static final String DEFLATE = "DEF";
+
+	private static final ThreadLocal<Deflater> DEFLATERS = ThreadLocal.withInitial(
+		() -> new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+	private static final ThreadLocal<Inflater> INFLATERS = ThreadLocal.withInitial(() -> new Inflater(true));
+
+	/**
+	 * 지원하는 압축 방식인지 확인(서명 검증 전)
+	 */
+	public static void checkSupported(String zip) {
+		if (!DEFLATE.equals(zip)) {
+			throw new JwtException(JwtErrorCode.UNSUPPORTED_TOKEN, "Unsupported compression: " + zip);
+		}
+	}
+
+	public static byte[] deflate(byte[] value, int offset, int length) {
+		Deflater deflater = DEFLATERS.get();
+		deflater.reset();
+		deflater.setInput(value, offset, length);
+		deflater.finish();
+
+		byte[] compressed = new byte[Math.max(64, length / 2)];
+		int size = 0;
+		while (!deflater.finished()) {
+			if (size == compressed.length) {
+				compressed = Arrays.copyOf(compressed, compressed.length * 2);
+			}
+			size += deflater.deflate(compressed, size, compressed.length - size);
+		}
+		deflater.reset();
+		return Arrays.copyOf(compressed, size);
+	}
+
+	/**
+	 * @param maxLength 압축 해제된 Payload의 최대 길이
+	 */
+	public static byte[] inflate(byte[] value, int maxLength) {
+		Inflater inflater = INFLATERS.get();
+		inflater.reset();
+		inflater.setInput(value);
+
+		byte[] inflated = new byte[(int)Math.min(maxLength, Math.max(64L, value.length * 4L))];
+		int size = 0;
+		try {
+			while (!inflater.finished()) {
+				if (size == inflated.length) {
+					if (size == maxLength) {
+						throw new JwtException(JwtErrorCode.INVALID_TOKEN, "Decompressed payload exceeds " + maxLength);
+					}
+					inflated = Arrays.copyOf(inflated, (int)Math.min(maxLength, inflated.length * 2L));
+				}
+				int count = inflater.inflate(inflated, size, inflated.length - size);
+				if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new JwtException(JwtErrorCode.MALFORMED_TOKEN, "Compressed payload is truncated");
+				}
+				size += count;
+			}
+		} catch (DataFormatException e) {
+			throw new JwtException(JwtErrorCode.MALFORMED_TOKEN, e);
+		} finally {
+			inflater.reset();
+		}
+		return size == inflated.length ? inflated : Arrays.copyOf(inflated, size);
+	}
+}
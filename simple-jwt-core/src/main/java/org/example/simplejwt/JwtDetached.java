@@ -0,0 +1,87 @@
+package org.example.simplejwt;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import org.example.simplejwt.JwtAlgorithm.AlgorithmExecutor;
+import org.example.simplejwt.JwtAlgorithm.SignatureUpdater;
+
+/**
+ * 인코딩하지 않은 분리 Payload 서명(RFC 7797, Header의 b64: false)
+ *  - 서명 대상은 HEADER 세그먼트 + '.' + 원본 Payload 바이트이며, 토큰은 HEADER..SIGNATURE 형식이다.
+ *  - Payload는 Base64url 인코딩, 문자열 변환 없이 고정 크기 구간으로 나누어 Mac, Signature에 바로 전달한다.
+ */
+class JwtDetached {
+	static final int CHUNK_SIZE = 64 * 1024;
+	private static final byte SEPARATOR = '.';
+
+	public static String sign(AlgorithmExecutor algorithmExecutor, byte[] headerSegment, Content content)
+		throws IOException {
+		SignatureUpdater updater = algorithmExecutor.updater();
+		update(updater, ByteBuffer.wrap(headerSegment), content);
+		byte[] signature = updater.sign();
+
+		StringBuilder token = new StringBuilder(headerSegment.length + 2
+			+ JwtSupporter.encodedLengthWithoutPadding(signature.length));
+		token.append(new String(headerSegment, StandardCharsets.US_ASCII))
+			.append((char)SEPARATOR)
+			.append((char)SEPARATOR)
+			.append(JwtSupporter.encodeBase64ToStringWithoutPadding(signature));
+		return token.toString();
+	}
+
+	public static boolean verify(AlgorithmExecutor algorithmExecutor, JwtScanner.Token token, Content content)
+		throws IOException {
+		SignatureUpdater updater = algorithmExecutor.updater();
+		update(updater, token.header(), content);
+		return updater.verify(token.signature());
+	}
+
+	private static void update(SignatureUpdater updater, ByteBuffer headerSegment, Content content) throws IOException {
+		updater.update(headerSegment);
+		updater.update(ByteBuffer.wrap(new byte[] {SEPARATOR}));
+		content.writeTo(updater);
+	}
+
+	/**
+	 * 분리 Payload 입력
+	 */
+	@FunctionalInterface
+	interface Content {
+		void writeTo(SignatureUpdater updater) throws IOException;
+
+		static Content of(InputStream input) {
+			return updater -> {
+				byte[] chunk = new byte[CHUNK_SIZE];
+				int read;
+				while ((read = input.read(chunk)) >= 0) {
+					updater.update(ByteBuffer.wrap(chunk, 0, read));
+				}
+			};
+		}
+
+		/**
+		 * 블로킹 채널(FileChannel 등)에서 끝까지 읽음
+		 */
+		static Content of(ReadableByteChannel channel) {
+			return updater -> {
+				ByteBuffer chunk = ByteBuffer.allocateDirect(CHUNK_SIZE);
+				while (channel.read(chunk) >= 0) {
+					chunk.flip();
+					updater.update(chunk);
+					chunk.clear();
+				}
+			};
+		}
+
+		/**
+		 * 메모리 매핑 파일 등 이미 메모리에 있는 구간(position은 변경하지 않음)
+		 */
+		static Content of(ByteBuffer buffer) {
+			return updater -> updater.update(buffer.duplicate());
+		}
+	}
+}
@@ -31,6 +31,7 @@ public class JwtException extends RuntimeException {
 	public enum JwtErrorCode {
 		INVALID_TOKEN("The token is invalid."),
 		EXPIRED_TOKEN("The token has expired."),
+		REVOKED_TOKEN("The token has been revoked."),
 		NOT_BEFORE_TOKEN("The token cannot be used before the specified time."),
 		UNSUPPORTED_TOKEN("The token type is not supported."),
 		MALFORMED_TOKEN("The token is malformed."),
@@ -46,6 +47,9 @@ public class JwtException extends RuntimeException {
 		KEY_GENERATION_FAILURE("Error occurred during key generation."),
 		SIGNATURE_ERROR("Error occurred during signature generation."),
 		CLASS_CAST_ERROR("Error occurred during class cast."),
+		INVALID_CONFIGURATION("The configuration is invalid."),
+		UNKNOWN_KEY_ID("The key id is unknown."),
+		TOO_MANY_PENDING_VERIFICATIONS("Too many verifications are pending."),
 		UNKNOWN_ERROR("An unknown error occurred.");
 
 		private final String message;
@@ -0,0 +1,188 @@
+package org.example.simplejwt;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import org.example.simplejwt.JWT.Algorithm;
+import org.example.simplejwt.JwtException.JwtErrorCode;
+
+/**
+ * 서명 검증 전 토큰 사전 검사
+ *  - Base64 디코딩, JSON 파싱, 키 디코딩, 서명 검증 이전에 길이, 문자 구성, 알고리즘만으로 거부할 수 있는 토큰을 걸러낸다.
+ *  - 비표준 Header도 JSON(CBOR) 파싱 전에 바이트 탐색으로 알고리즘을 먼저 검사한다.
+ *  - 대량의 위조 토큰이 유입되어도 토큰당 바이트 순회 한 번의 비용으로 거부한다.
+ */
+class JwtGate {
+	public static final int DEFAULT_MAX_TOKEN_LENGTH = 64 * 1024;
+	public static final int DEFAULT_MAX_HEADER_LENGTH = 1024;
+	public static final int DEFAULT_MAX_DECOMPRESSED_LENGTH = 256 * 1024;
+
+	private static final int MAX_ALGORITHM_LENGTH = 16;
+
+	private static final boolean[] BASE64_URL_CHARACTERS = new boolean[128];
+
+	static {
+		for (byte b : "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII)) {
+			BASE64_URL_CHARACTERS[b] = true;
+		}
+	}
+
+	private final int maxTokenLength;
+	private final int maxHeaderLength;
+	private final int maxDecompressedLength;
+	private final Set<Algorithm> algorithms;
+
+	JwtGate(int maxTokenLength, int maxHeaderLength, int maxDecompressedLength, Set<Algorithm> algorithms) {
+		this.maxTokenLength = maxTokenLength;
+		this.maxHeaderLength = maxHeaderLength;
+		this.maxDecompressedLength = maxDecompressedLength;
+		this.algorithms = algorithms;
+	}
+
+	/**
+	 * 토큰 길이 검사(토큰 분리, 문자열 변환 전)
+	 */
+	void checkLength(int length) {
+		if (length > maxTokenLength) {
+			throw new JwtException(JwtErrorCode.INVALID_TOKEN, "Token length exceeds " + maxTokenLength);
+		}
+	}
+
+	/**
+	 * Header 길이 및 세그먼트 문자 검사(Base64url 문자만 허용)
+	 */
+	void checkSegments(JwtScanner.Token token) {
+		ByteBuffer header = token.header();
+		if (header.remaining() > maxHeaderLength) {
+			throw new JwtException(JwtErrorCode.INVALID_TOKEN, "Header length exceeds " + maxHeaderLength);
+		}
+		checkCharacters(header);
+		checkCharacters(token.payload());
+		checkCharacters(token.signature());
+	}
+
+	/**
+	 * 허용 알고리즘 검사
+	 */
+	void checkAlgorithm(Algorithm algorithm) {
+		if (!algorithms.contains(algorithm)) {
+			throw new JwtException(JwtErrorCode.UNSUPPORTED_ALGORITHM, "Unsupported algorithm: " + algorithm);
+		}
+	}
+
+	/**
+	 * 디코딩된 비표준 Header(kid, zip 등 포함)에서 알고리즘을 찾아 허용 알고리즘 검사(JSON, CBOR 파싱 전)
+	 *  - JSON: 최상위 객체의 "alg" 키와 문자열 값만 바이트 단위로 찾는다.
+	 *  - CBOR: 결정적 인코딩(정수 키 오름차순)에 따라 첫 항목이 alg(1)여야 한다.
+	 * @return Header의 알고리즘(파싱 결과와 다르면 호출 측에서 거부)
+	 */
+	Algorithm checkHeaderAlgorithm(byte[] header) {
+		Algorithm algorithm = JwtCbor.isCbor(header) ? cborAlgorithm(header) : jsonAlgorithm(header);
+		checkAlgorithm(algorithm);
+		return algorithm;
+	}
+
+	/**
+	 * 압축된 Payload 해제(서명 검증 후, 최대 길이 초과 시 중단)
+	 */
+	byte[] inflate(byte[] payload) {
+		return JwtCompression.inflate(payload, maxDecompressedLength);
+	}
+
+	private static Algorithm jsonAlgorithm(byte[] json) {
+		int depth = 0;
+		for (int i = 0; i < json.length; i++) {
+			byte b = json[i];
+			if (b == '"') {
+				int end = stringEnd(json, i);
+				if (end < 0) {
+					break;
+				}
+				if (depth == 1 && end - i == 4 && json[i + 1] == 'a' && json[i + 2] == 'l' && json[i + 3] == 'g') {
+					int colon = skipWhitespace(json, end + 1);
+					if (colon < json.length && json[colon] == ':') {
+						return jsonAlgorithmValue(json, skipWhitespace(json, colon + 1));
+					}
+				}
+				i = end;
+			} else if (b == '{' || b == '[') {
+				depth++;
+			} else if (b == '}' || b == ']') {
+				depth--;
+			}
+		}
+		throw new JwtException(JwtErrorCode.UNSUPPORTED_ALGORITHM, "Header does not contain an algorithm");
+	}
+
+	private static Algorithm jsonAlgorithmValue(byte[] json, int start) {
+		int end = start < json.length && json[start] == '"' ? stringEnd(json, start) : -1;
+		if (end < 0 || end - start - 1 > MAX_ALGORITHM_LENGTH) {
+			throw new JwtException(JwtErrorCode.UNSUPPORTED_ALGORITHM, "Unsupported algorithm in header");
+		}
+		return Algorithm.from(new String(json, start + 1, end - start - 1, StandardCharsets.US_ASCII));
+	}
+
+	/**
+	 * 문자열을 닫는 '"'의 위치(이스케이프 문자 건너뜀, 닫히지 않으면 -1)
+	 */
+	private static int stringEnd(byte[] json, int start) {
+		for (int i = start + 1; i < json.length; i++) {
+			if (json[i] == '\\') {
+				i++;
+			} else if (json[i] == '"') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int skipWhitespace(byte[] json, int index) {
+		while (index < json.length && (json[index] == ' ' || json[index] == '\t' || json[index] == '\r' || json[index] == '\n')) {
+			index++;
+		}
+		return index;
+	}
+
+	private static Algorithm cborAlgorithm(byte[] cbor) {
+		// 맵 헤더(major type 5) 다음 첫 키가 정수 1인지 확인
+		int index = 1 + argumentLength(cbor[0]);
+		if (index + 1 >= cbor.length || cbor[index] != 0x01) {
+			throw new JwtException(JwtErrorCode.UNSUPPORTED_ALGORITHM, "Header must start with an algorithm");
+		}
+		int initial = cbor[++index] & 0xff;
+		int majorType = initial & 0xe0;
+		int length = argumentLength(cbor[index]);
+		if ((majorType != 0x00 && majorType != 0x20) || length < 0 || length > 4 || index + length >= cbor.length) {
+			throw new JwtException(JwtErrorCode.UNSUPPORTED_ALGORITHM, "Unsupported algorithm in header");
+		}
+		long value = length == 0 ? initial & 0x1f : 0;
+		for (int i = 1; i <= length; i++) {
+			value = (value << 8) | (cbor[index + i] & 0xff);
+		}
+		if (value > Integer.MAX_VALUE) {
+			throw new JwtException(JwtErrorCode.UNSUPPORTED_ALGORITHM, "Unsupported algorithm in header");
+		}
+		return Algorithm.fromCoseId(majorType == 0x00 ? (int)value : (int)(-1 - value));
+	}
+
+	/**
+	 * CBOR 초기 바이트 뒤에 이어지는 인자 바이트 수(0, 1, 2, 4, 8, 지원하지 않는 형식은 -1)
+	 */
+	private static int argumentLength(byte initial) {
+		int additional = initial & 0x1f;
+		if (additional < 24) {
+			return 0;
+		}
+		return additional <= 27 ? 1 << (additional - 24) : -1;
+	}
+
+	private static void checkCharacters(ByteBuffer segment) {
+		for (int i = segment.position(), end = segment.limit(); i < end; i++) {
+			byte b = segment.get(i);
+			if (b < 0 || !BASE64_URL_CHARACTERS[b]) {
+				throw new JwtException(JwtErrorCode.MALFORMED_TOKEN, "Token contains a non Base64url character");
+			}
+		}
+	}
+}
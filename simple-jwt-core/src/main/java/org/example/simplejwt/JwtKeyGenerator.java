@@ -36,6 +36,17 @@ public class JwtKeyGenerator {
 		}
 	}
 
+	/**
+	 * @param curve Ed25519 또는 Ed448
+	 */
+	public static KeyPair generateEdDsaKeyPair(String curve) {
+		try {
+			return KeyPairGenerator.getInstance(curve).generateKeyPair();
+		} catch (NoSuchAlgorithmException e) {
+			throw new JwtException(JwtErrorCode.KEY_GENERATION_FAILURE, e, "Error generating EdDSA key pair");
+		}
+	}
+
 	public static SecretKey generateHmacSecretKey(String algorithm) {
 		try {
 			KeyGenerator keyGenerator = KeyGenerator.getInstance("HmacSHA256");
@@ -0,0 +1,159 @@
+package org.example.simplejwt;
+
+import java.security.KeyPair;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.simplejwt.JWT.Algorithm;
+import org.example.simplejwt.JWT.KeySize;
+import org.example.simplejwt.JwtAlgorithm.AlgorithmKeyType;
+import org.example.simplejwt.JwtException.JwtErrorCode;
+
+/**
+ * 키 쌍 사전 생성 풀
+ *  - 알고리즘, 키 크기별로 미리 생성한 키 쌍을 보관하여 키 교체, 테넌트 키 발급 시 생성 대기 없이 바로 제공한다.
+ *  - 키 쌍을 꺼내면 지정한 개수가 될 때까지 백그라운드 스레드(최대 threads개)에서 다시 채운다.
+ *  - 풀이 비어있으면 호출 스레드에서 바로 생성한다.
+ *  - 사용이 끝나면 close로 백그라운드 스레드를 종료한다.
+ */
+public class JwtKeyPairPool implements AutoCloseable {
+	private final int targetSize;
+	private final ThreadPoolExecutor executor;
+	private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+
+	/**
+	 * @param targetSize 알고리즘, 키 크기별로 유지할 키 쌍 개수
+	 * @param threads 키 생성에 사용할 백그라운드 스레드 수
+	 */
+	public JwtKeyPairPool(int targetSize, int threads) {
+		if (targetSize <= 0 || threads <= 0) {
+			throw new JwtException(JwtErrorCode.INVALID_CONFIGURATION, "Target size and threads must be greater than 0");
+		}
+		this.targetSize = targetSize;
+		AtomicInteger threadNumber = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+			runnable -> {
+				Thread thread = new Thread(runnable, "simple-jwt-key-pair-pool-" + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				thread.setPriority(Thread.MIN_PRIORITY);
+				return thread;
+			});
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * 키 쌍 사전 생성 시작(백그라운드에서 targetSize개까지 생성)
+	 */
+	public JwtKeyPairPool prepare(Algorithm algorithm, KeySize keySize) {
+		refill(pool(algorithm, keySize));
+		return this;
+	}
+
+	/**
+	 * 키 쌍 조회
+	 *  - 미리 생성된 키 쌍이 있으면 바로 반환하고, 없으면 호출 스레드에서 생성한다.
+	 *  - 반환 후 백그라운드에서 풀을 다시 채운다.
+	 */
+	public KeyPair acquire(Algorithm algorithm, KeySize keySize) {
+		Pool pool = pool(algorithm, keySize);
+		KeyPair keyPair = pool.keyPairs.poll();
+		if (Objects.nonNull(keyPair)) {
+			pool.size.decrementAndGet();
+		} else {
+			keyPair = JWT.generateKeyPair(algorithm, keySize);
+		}
+		refill(pool);
+		return keyPair;
+	}
+
+	/**
+	 * 바로 제공할 수 있는 키 쌍 개수
+	 */
+	public int available(Algorithm algorithm, KeySize keySize) {
+		Pool pool = pools.get(keyOf(algorithm, keySize));
+		return Objects.isNull(pool) ? 0 : pool.size.get();
+	}
+
+	public int getTargetSize() {
+		return targetSize;
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+
+	private Pool pool(Algorithm algorithm, KeySize keySize) {
+		if (Objects.isNull(algorithm)) {
+			throw new JwtException(JwtErrorCode.ALGORITHM_REQUIRED);
+		}
+		if (Objects.isNull(keySize)) {
+			throw new JwtException(JwtErrorCode.KEY_SIZE_REQUIRED);
+		}
+		if (AlgorithmKeyType.of(algorithm, true) == AlgorithmKeyType.SECRET_KEY) {
+			throw new JwtException(JwtErrorCode.UNSUPPORTED_ALGORITHM, "Key pairs are not used by " + algorithm);
+		}
+		return pools.computeIfAbsent(keyOf(algorithm, keySize), key -> new Pool(algorithm, keySize));
+	}
+
+	/**
+	 * 보관 중인 개수와 생성 중인 개수의 합이 targetSize가 될 때까지 생성 작업 등록
+	 */
+	private void refill(Pool pool) {
+		while (true) {
+			int pending = pool.pending.get();
+			if (pool.size.get() + pending >= targetSize) {
+				return;
+			}
+			if (!pool.pending.compareAndSet(pending, pending + 1)) {
+				continue;
+			}
+			try {
+				executor.execute(() -> generate(pool));
+			} catch (RejectedExecutionException e) {
+				pool.pending.decrementAndGet();
+				return;
+			}
+		}
+	}
+
+	private void generate(Pool pool) {
+		try {
+			KeyPair keyPair = JWT.generateKeyPair(pool.algorithm, pool.keySize);
+			pool.keyPairs.offer(keyPair);
+			pool.size.incrementAndGet();
+		} catch (JwtException e) {
+			// 백그라운드 생성 실패 시 acquire에서 호출 스레드가 직접 생성하며 오류를 전달한다.
+		} finally {
+			pool.pending.decrementAndGet();
+		}
+	}
+
+	/**
+	 * 같은 키 종류를 사용하는 알고리즘(RS256, PS256 등)은 하나의 풀을 공유
+	 */
+	private static String keyOf(Algorithm algorithm, KeySize keySize) {
+		return algorithm.shortName() + ":" + keySize;
+	}
+
+	private static class Pool {
+		private final Algorithm algorithm;
+		private final KeySize keySize;
+		private final Queue<KeyPair> keyPairs = new ConcurrentLinkedQueue<>();
+		private final AtomicInteger size = new AtomicInteger();
+		private final AtomicInteger pending = new AtomicInteger();
+
+		private Pool(Algorithm algorithm, KeySize keySize) {
+			this.algorithm = algorithm;
+			this.keySize = keySize;
+		}
+	}
+}
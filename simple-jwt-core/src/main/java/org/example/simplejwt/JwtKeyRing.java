@@ -0,0 +1,113 @@
+package org.example.simplejwt;
+
+import java.security.Key;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.example.simplejwt.JWT.Algorithm;
+import org.example.simplejwt.JwtAlgorithm.AlgorithmExecutor;
+import org.example.simplejwt.JwtAlgorithm.AlgorithmKeyType;
+import org.example.simplejwt.JwtException.JwtErrorCode;
+
+/**
+ * kid(Key ID)별 검증 키 목록
+ *  - 키 등록 시점에 키를 디코딩하고 AlgorithmExecutor를 만들어 두며, 검증 시에는 Header의 kid로 한 번에 조회한다.
+ *  - 키 교체 중에도 검증을 멈추지 않고 키를 추가(add), 폐기(retire)할 수 있다.
+ *  - 키마다 사용할 알고리즘을 고정하여 Header의 alg로 다른 알고리즘을 강제할 수 없다.
+ */
+public class JwtKeyRing {
+	private final Map<String, KeyEntry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * 검증 키 등록(같은 kid가 이미 있으면 교체)
+	 * @param kid 키 식별자
+	 * @param algorithm 키에 사용할 알고리즘
+	 * @param key SecretKey 또는 PublicKey
+	 */
+	public JwtKeyRing add(String kid, Algorithm algorithm, Key key) {
+		if (Objects.isNull(key)) {
+			throw new JwtException(JwtErrorCode.SIGNED_KEY_REQUIRED);
+		}
+		JwtAlgorithm.checkKeyAlgorithm(algorithm, JwtAlgorithm.algorithmsOf(key));
+		return put(kid, algorithm, new AlgorithmExecutor(algorithm, key));
+	}
+
+	/**
+	 * Base64로 인코딩된 검증 키 등록(같은 kid가 이미 있으면 교체)
+	 * @param kid 키 식별자
+	 * @param algorithm 키에 사용할 알고리즘
+	 * @param encodedKey 시크릿 키 또는 공개키(X.509)
+	 */
+	public JwtKeyRing add(String kid, Algorithm algorithm, String encodedKey) {
+		if (Objects.isNull(encodedKey)) {
+			throw new JwtException(JwtErrorCode.SIGNED_KEY_REQUIRED);
+		}
+		JwtAlgorithm.checkKeyAlgorithm(algorithm, JwtAlgorithm.algorithmsOf(encodedKey));
+		return put(kid, algorithm,
+			new AlgorithmExecutor(algorithm, encodedKey, AlgorithmKeyType.of(algorithm, false)));
+	}
+
+	/**
+	 * 검증 키 폐기(이후 해당 kid의 토큰은 검증에 실패)
+	 * @return 폐기된 키가 있었는지 여부
+	 */
+	public boolean retire(String kid) {
+		return Objects.nonNull(kid) && Objects.nonNull(entries.remove(kid));
+	}
+
+	public boolean contains(String kid) {
+		return Objects.nonNull(kid) && entries.containsKey(kid);
+	}
+
+	public Set<String> getKeyIds() {
+		return Collections.unmodifiableSet(entries.keySet());
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * kid로 검증 키 조회
+	 * @throws JwtException kid가 없거나 등록되지 않은 경우
+	 */
+	KeyEntry get(String kid) {
+		KeyEntry entry = Objects.isNull(kid) ? null : entries.get(kid);
+		if (Objects.isNull(entry)) {
+			throw new JwtException(JwtErrorCode.UNKNOWN_KEY_ID, "Unknown key id: " + kid);
+		}
+		return entry;
+	}
+
+	private JwtKeyRing put(String kid, Algorithm algorithm, AlgorithmExecutor algorithmExecutor) {
+		if (Objects.isNull(kid)) {
+			throw new JwtException(JwtErrorCode.INVALID_CONFIGURATION, "Key id is required");
+		}
+		entries.put(kid, new KeyEntry(algorithm, algorithmExecutor));
+		return this;
+	}
+
+	/**
+	 * 등록된 검증 키(교체되면 새 객체로 바뀌므로 캐싱된 검증 결과의 유효성 확인에 사용)
+	 */
+	static class KeyEntry {
+		private final Algorithm algorithm;
+		private final AlgorithmExecutor algorithmExecutor;
+
+		private KeyEntry(Algorithm algorithm, AlgorithmExecutor algorithmExecutor) {
+			this.algorithm = algorithm;
+			this.algorithmExecutor = algorithmExecutor;
+		}
+
+		Algorithm getAlgorithm() {
+			return algorithm;
+		}
+
+		AlgorithmExecutor getAlgorithmExecutor() {
+			return algorithmExecutor;
+		}
+	}
+}
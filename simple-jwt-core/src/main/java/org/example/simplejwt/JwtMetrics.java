@@ -0,0 +1,155 @@
+package org.example.simplejwt;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.example.simplejwt.JWT.Algorithm;
+import org.example.simplejwt.JwtException.JwtErrorCode;
+
+/**
+ * JWT 생성, 검증 지표 수집 SPI
+ *  - JwtBuilder, JwtVerifier가 단계별 처리 시간(나노초), 토큰 크기, 알고리즘, 오류 코드를 전달한다.
+ *  - 호출은 검증 스레드에서 바로 이루어지므로 구현체는 스레드 안전하고 가벼워야 한다.
+ *  - 기본값 NOOP은 isEnabled()가 false이므로 System.nanoTime() 호출을 포함한 모든 측정을 생략한다.
+ */
+public interface JwtMetrics {
+
+	JwtMetrics NOOP = new JwtMetrics() {
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+	};
+
+	/**
+	 * 처리 단계
+	 *  - SCAN: 토큰 구분자 탐색
+	 *  - HEADER: Header 해석 및 알고리즘, 검증 키 결정
+	 *  - PAYLOAD: Payload JSON 직렬화(생성) 또는 Base64url 디코딩과 등록 클레임 추출(검증)
+	 *  - ENCODE: Payload, Signature의 Base64url 인코딩(생성)
+	 *  - SIGNATURE: 서명 생성 또는 서명 검증
+	 *  - CLAIMS: 시간 클레임 검증
+	 */
+	enum Phase {
+		SCAN,
+		HEADER,
+		PAYLOAD,
+		ENCODE,
+		SIGNATURE,
+		CLAIMS
+	}
+
+	/**
+	 * 측정 여부(false이면 시간 측정과 나머지 콜백 호출을 모두 생략)
+	 */
+	default boolean isEnabled() {
+		return true;
+	}
+
+	/**
+	 * 단계별 처리 시간
+	 * @param algorithm 알고리즘(Header 해석 전 단계는 null)
+	 */
+	default void onPhase(Phase phase, Algorithm algorithm, long nanos) {
+	}
+
+	/**
+	 * JWT 생성 완료
+	 * @param tokenLength 토큰 길이(바이트)
+	 * @param nanos 전체 처리 시간
+	 */
+	default void onBuilt(Algorithm algorithm, int tokenLength, long nanos) {
+	}
+
+	/**
+	 * JWT 검증 완료
+	 * @param tokenLength 토큰 길이(바이트)
+	 * @param nanos 전체 처리 시간
+	 */
+	default void onVerified(Algorithm algorithm, int tokenLength, long nanos) {
+	}
+
+	/**
+	 * JWT 생성, 검증 실패
+	 */
+	default void onError(JwtErrorCode errorCode) {
+	}
+
+	/**
+	 * 메모리에 지표를 누적하는 기본 구현체
+	 */
+	final class Recorder implements JwtMetrics {
+		private final Map<Phase, LongAdder> phaseNanos = new EnumMap<>(Phase.class);
+		private final Map<Phase, LongAdder> phaseCounts = new EnumMap<>(Phase.class);
+		private final Map<Algorithm, LongAdder> builtCounts = new EnumMap<>(Algorithm.class);
+		private final Map<Algorithm, LongAdder> verifiedCounts = new EnumMap<>(Algorithm.class);
+		private final Map<JwtErrorCode, LongAdder> errorCounts = new EnumMap<>(JwtErrorCode.class);
+		private final LongAdder tokenBytes = new LongAdder();
+
+		public Recorder() {
+			// 조회 시 동기화가 필요 없도록 모든 키를 미리 등록
+			for (Phase phase : Phase.values()) {
+				phaseNanos.put(phase, new LongAdder());
+				phaseCounts.put(phase, new LongAdder());
+			}
+			for (Algorithm algorithm : Algorithm.values()) {
+				builtCounts.put(algorithm, new LongAdder());
+				verifiedCounts.put(algorithm, new LongAdder());
+			}
+			for (JwtErrorCode errorCode : JwtErrorCode.values()) {
+				errorCounts.put(errorCode, new LongAdder());
+			}
+		}
+
+		@Override
+		public void onPhase(Phase phase, Algorithm algorithm, long nanos) {
+			phaseNanos.get(phase).add(nanos);
+			phaseCounts.get(phase).increment();
+		}
+
+		@Override
+		public void onBuilt(Algorithm algorithm, int tokenLength, long nanos) {
+			builtCounts.get(algorithm).increment();
+			tokenBytes.add(tokenLength);
+		}
+
+		@Override
+		public void onVerified(Algorithm algorithm, int tokenLength, long nanos) {
+			verifiedCounts.get(algorithm).increment();
+			tokenBytes.add(tokenLength);
+		}
+
+		@Override
+		public void onError(JwtErrorCode errorCode) {
+			errorCounts.get(errorCode).increment();
+		}
+
+		public long getPhaseNanos(Phase phase) {
+			return phaseNanos.get(phase).sum();
+		}
+
+		public long getPhaseCount(Phase phase) {
+			return phaseCounts.get(phase).sum();
+		}
+
+		public long getBuiltCount(Algorithm algorithm) {
+			return builtCounts.get(algorithm).sum();
+		}
+
+		public long getVerifiedCount(Algorithm algorithm) {
+			return verifiedCounts.get(algorithm).sum();
+		}
+
+		public long getErrorCount(JwtErrorCode errorCode) {
+			return errorCounts.get(errorCode).sum();
+		}
+
+		/**
+		 * 생성, 검증된 토큰 길이 합계
+		 */
+		public long getTokenBytes() {
+			return tokenBytes.sum();
+		}
+	}
+}
@@ -1,94 +1,195 @@
 package org.example.simplejwt;
 
-import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.security.PublicKey;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.util.Map;
+import java.time.Duration;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 import org.example.simplejwt.JWT.Algorithm;
-import org.example.simplejwt.JwtAlgorithm.AlgorithmExecutor;
-import org.example.simplejwt.JwtAlgorithm.AlgorithmKeyType;
-import org.example.simplejwt.JwtComponenet.Header;
-import org.example.simplejwt.JwtComponenet.Payload;
 import org.example.simplejwt.JwtException.JwtErrorCode;
 
 public class JwtParser {
+	private Set<Algorithm> algorithms = EnumSet.allOf(Algorithm.class);
+	private int cacheMaxEntries;
+	private long cacheMaxBytes;
+	private JwtClock clock = JwtClock.system();
+	private long leewaySeconds;
+	private JwtMetrics metrics = JwtMetrics.NOOP;
+	private JwtRevocationChecker revocationChecker;
+	private int maxTokenLength = JwtGate.DEFAULT_MAX_TOKEN_LENGTH;
+	private int maxHeaderLength = JwtGate.DEFAULT_MAX_HEADER_LENGTH;
+	private int maxDecompressedLength = JwtGate.DEFAULT_MAX_DECOMPRESSED_LENGTH;
+
+	/* Builder */
+	public JwtParser algorithms(Algorithm... algorithms) {
+		if (Objects.isNull(algorithms) || algorithms.length == 0) {
+			throw new JwtException(JwtErrorCode.ALGORITHM_REQUIRED);
+		}
+		this.algorithms = EnumSet.of(algorithms[0], algorithms);
+		return this;
+	}
 
-	public SignedKeyProcessor signedKey(String signedKey) {
-		return new SignedKeyProcessor(signedKey);
+	/**
+	 * 비대칭 알고리즘(RS, ES, PS) 검증 결과 캐시 사용
+	 *  - 같은 토큰이 반복해서 검증되는 경우 서명 검증을 생략한다.
+	 * @param maxEntries 최대 항목 수
+	 * @param maxBytes 캐싱된 토큰 길이 합계의 최대값
+	 */
+	public JwtParser cache(int maxEntries, long maxBytes) {
+		this.cacheMaxEntries = maxEntries;
+		this.cacheMaxBytes = maxBytes;
+		return this;
 	}
 
-	public SignedKeyProcessor publicKey(PublicKey publicKey) {
-		return new SignedKeyProcessor(JwtSupporter.encodeBase64ToString(publicKey.getEncoded()));
+	/**
+	 * expiration, notBeforeAt 검증에 사용할 시계(기본값: 시스템 시계)
+	 */
+	public JwtParser clock(JwtClock clock) {
+		if (Objects.isNull(clock)) {
+			throw new JwtException(JwtErrorCode.INVALID_CONFIGURATION, "Clock is required");
+		}
+		this.clock = clock;
+		return this;
 	}
 
-	public static class SignedKeyProcessor {
-		private String signedKey;
+	/**
+	 * 서버 간 시계 오차 허용 범위(expiration, notBeforeAt 검증에 적용, 초 단위)
+	 */
+	public JwtParser leeway(Duration leeway) {
+		if (Objects.isNull(leeway) || leeway.isNegative()) {
+			throw new JwtException(JwtErrorCode.INVALID_CONFIGURATION, "Leeway must not be negative");
+		}
+		this.leewaySeconds = leeway.getSeconds();
+		return this;
+	}
 
-		public SignedKeyProcessor(String signedKey) {
-			if (Objects.isNull(signedKey)) {
-				throw new JwtException(JwtErrorCode.SIGNED_KEY_REQUIRED);
-			}
+	/**
+	 * 검증 지표 수집기(기본값: 수집하지 않음)
+	 */
+	public JwtParser metrics(JwtMetrics metrics) {
+		if (Objects.isNull(metrics)) {
+			throw new JwtException(JwtErrorCode.INVALID_CONFIGURATION, "Metrics is required");
+		}
+		this.metrics = metrics;
+		return this;
+	}
+
+	/**
+	 * 토큰 폐기 여부 확인(jwtId 클레임이 있는 토큰만 확인)
+	 */
+	public JwtParser revocationChecker(JwtRevocationChecker revocationChecker) {
+		this.revocationChecker = revocationChecker;
+		return this;
+	}
+
+	/**
+	 * 검증할 토큰의 최대 길이(초과 시 분리, 디코딩 없이 거부, 기본값 64KB)
+	 */
+	public JwtParser maxTokenLength(int maxTokenLength) {
+		if (maxTokenLength <= 0) {
+			throw new JwtException(JwtErrorCode.INVALID_CONFIGURATION, "Max token length must be greater than 0");
+		}
+		this.maxTokenLength = maxTokenLength;
+		return this;
+	}
 
-			this.signedKey = signedKey;
+	/**
+	 * Header 세그먼트의 최대 길이(초과 시 JSON 파싱 없이 거부, 기본값 1KB)
+	 */
+	public JwtParser maxHeaderLength(int maxHeaderLength) {
+		if (maxHeaderLength <= 0) {
+			throw new JwtException(JwtErrorCode.INVALID_CONFIGURATION, "Max header length must be greater than 0");
 		}
+		this.maxHeaderLength = maxHeaderLength;
+		return this;
+	}
+
+	/**
+	 * 압축된(zip: "DEF") Payload의 압축 해제 후 최대 길이(초과 시 해제를 중단하고 거부, 기본값 256KB)
+	 */
+	public JwtParser maxDecompressedLength(int maxDecompressedLength) {
+		if (maxDecompressedLength <= 0) {
+			throw new JwtException(JwtErrorCode.INVALID_CONFIGURATION, "Max decompressed length must be greater than 0");
+		}
+		this.maxDecompressedLength = maxDecompressedLength;
+		return this;
+	}
+
+	Set<Algorithm> getAlgorithms() {
+		return algorithms;
+	}
+
+	JwtClock getClock() {
+		return clock;
+	}
+
+	long getLeewaySeconds() {
+		return leewaySeconds;
+	}
 
-		private void validateJsonWebToken(String token) {
-			String[] parts = token.split("\\.");
-			if (parts.length != 3) {
-				throw new JwtException(JwtErrorCode.INVALID_TOKEN);
-			}
-
-			String headerBase64 = parts[0];
-			String payloadBase64 = parts[1];
-			String signature = parts[2];
-
-			// Header에서 알고리즘 추출
-			String headerJson = JwtSupporter.decodeBase64ToString(headerBase64, StandardCharsets.UTF_8);
-			Header header = JwtSupporter.readValue(headerJson, Header.class);
-			Algorithm algorithm = Algorithm.valueOf(header.getAlg());
-
-			// 토큰에 Signature와 SignedKey를 통해 토큰의 Header, Payload로 새롭게 만든 Signature가 동일한지 검증
-			AlgorithmExecutor algorithmExecutor = new AlgorithmExecutor(algorithm, signedKey, AlgorithmKeyType.of(algorithm, false));
-			if (!algorithmExecutor.verify(headerBase64 + "." + payloadBase64, signature)) {
-				throw new JwtException(JwtErrorCode.INVALID_TOKEN);
-			}
-
-			// 토큰 만료기간 & 유효시작시간 검증
-			String payloadJson = JwtSupporter.decodeBase64ToString(payloadBase64, StandardCharsets.UTF_8);
-			Payload payload = new Payload(JwtSupporter.readValue(payloadJson, Map.class));
-
-			ZonedDateTime expiration = payload.getExpiration(ZoneId.systemDefault());
-			if (!Objects.isNull(expiration)) {
-				if (expiration.isBefore(ZonedDateTime.now())) {
-					throw new JwtException(JwtErrorCode.EXPIRED_TOKEN);
-				}
-			}
-
-			ZonedDateTime notBeforeAt = payload.getNotBeforeAt(ZoneId.systemDefault());
-			if (!Objects.isNull(notBeforeAt)) {
-				if (notBeforeAt.isAfter(ZonedDateTime.now())) {
-					throw new JwtException(JwtErrorCode.NOT_BEFORE_TOKEN);
-				}
-			}
+	JwtMetrics getMetrics() {
+		return metrics;
+	}
+
+	JwtRevocationChecker getRevocationChecker() {
+		return revocationChecker;
+	}
+
+	/**
+	 * @param algorithms 검증 키로 사용할 수 있는 허용 알고리즘
+	 */
+	JwtGate createGate(Set<Algorithm> algorithms) {
+		return new JwtGate(maxTokenLength, maxHeaderLength, maxDecompressedLength, algorithms);
+	}
+
+	JwtTokenCache createTokenCache() {
+		if (cacheMaxEntries == 0 && cacheMaxBytes == 0) {
+			return null;
 		}
+		return new JwtTokenCache(cacheMaxEntries, cacheMaxBytes);
+	}
+
+	/**
+	 * 재사용 가능한 JWT 검증기 생성
+	 * @param key SecretKey 또는 PublicKey
+	 * @return JwtVerifier
+	 */
+	public JwtVerifier verifier(Key key) {
+		return new JwtVerifier(key, this);
+	}
+
+	public SignedKeyProcessor signedKey(String signedKey) {
+		return new SignedKeyProcessor(signedKey, this);
+	}
 
-		public Header header(String token) {
-			validateJsonWebToken(token);
-			String headerBase64 = token.split("\\.")[0];
-			String headerJson = JwtSupporter.decodeBase64ToString(headerBase64, StandardCharsets.UTF_8);
+	public SignedKeyProcessor publicKey(PublicKey publicKey) {
+		return new SignedKeyProcessor(publicKey, this);
+	}
 
-			return JwtSupporter.readValue(headerJson, Header.class);
+	/**
+	 * Header의 kid로 검증 키를 조회하는 JWT 검증기 생성
+	 *  - 키 목록은 검증기와 공유되므로 생성 이후의 키 추가, 폐기가 바로 반영된다.
+	 * @param keyRing kid별 검증 키 목록
+	 * @return JwtVerifier
+	 */
+	public JwtVerifier keyRing(JwtKeyRing keyRing) {
+		return new JwtVerifier(keyRing, this);
+	}
+
+	public static class SignedKeyProcessor extends JwtVerifier {
+
+		public SignedKeyProcessor(String signedKey) {
+			this(signedKey, new JwtParser());
 		}
 
-		public Payload payload(String token) {
-			validateJsonWebToken(token);
-			String payloadBase64 = token.split("\\.")[1];
-			String payloadJson = JwtSupporter.decodeBase64ToString(payloadBase64, StandardCharsets.UTF_8);
+		SignedKeyProcessor(String signedKey, JwtParser options) {
+			super(signedKey, options);
+		}
 
-			return new Payload(JwtSupporter.readValue(payloadJson, Map.class));
+		SignedKeyProcessor(Key key, JwtParser options) {
+			super(key, options);
 		}
 	}
 }
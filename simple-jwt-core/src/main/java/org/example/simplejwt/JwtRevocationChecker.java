@@ -0,0 +1,16 @@
+package org.example.simplejwt;
+
+/**
+ * 토큰 폐기 여부 확인
+ *  - 서명, 시간 클레임 검증이 끝난 토큰의 jwtId로 호출되며, jwtId가 없는 토큰은 확인하지 않는다.
+ *  - 모든 검증 요청마다 호출되므로 구현체는 스레드 안전하고 빠르게 응답해야 한다.
+ */
+@FunctionalInterface
+public interface JwtRevocationChecker {
+
+	/**
+	 * @param jwtId 토큰의 jwtId 클레임
+	 * @return 폐기된 토큰이면 true
+	 */
+	boolean isRevoked(String jwtId);
+}
@@ -0,0 +1,168 @@
+package org.example.simplejwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.example.simplejwt.JwtComponenet.Payload;
+import org.example.simplejwt.JwtException.JwtErrorCode;
+
+/**
+ * 메모리 기반 토큰 폐기 목록
+ *  - Bloom 필터로 폐기되지 않은 토큰(대부분의 요청)을 잠금 없이 몇 번의 비트 조회로 판단하고,
+ *    필터가 폐기 가능성을 알리는 경우에만 정확한 목록(jwtId, 만료 시각)을 조회한다.
+ *  - 토큰의 expiration이 지난 항목은 purgeExpired로 제거하며, 제거 후 필터를 다시 만든다.
+ *  - 항목 수가 expectedInsertions를 넘으면 폐기 등록 시 만료 항목을 자동으로 정리한다.
+ */
+public class JwtRevocationList implements JwtRevocationChecker {
+	private final int expectedInsertions;
+	private final int bitCount;
+	private final int hashCount;
+	private final JwtClock clock;
+	private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+	private volatile AtomicLongArray bits;
+
+	/**
+	 * @param expectedInsertions 예상 폐기 토큰 수
+	 * @param falsePositiveRate Bloom 필터 오탐률(0 초과 1 미만)
+	 */
+	public JwtRevocationList(int expectedInsertions, double falsePositiveRate) {
+		this(expectedInsertions, falsePositiveRate, JwtClock.system());
+	}
+
+	/**
+	 * @param expectedInsertions 예상 폐기 토큰 수
+	 * @param falsePositiveRate Bloom 필터 오탐률(0 초과 1 미만)
+	 * @param clock 만료 항목 정리에 사용할 시계
+	 */
+	public JwtRevocationList(int expectedInsertions, double falsePositiveRate, JwtClock clock) {
+		if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1 || Objects.isNull(clock)) {
+			throw new JwtException(JwtErrorCode.INVALID_CONFIGURATION, "Invalid revocation list configuration");
+		}
+		// m = -n * ln(p) / (ln 2)^2, k = m / n * ln 2
+		long bits = (long)Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		this.expectedInsertions = expectedInsertions;
+		this.bitCount = (int)Math.min(Math.max(bits, Long.SIZE), (long)Integer.MAX_VALUE - Long.SIZE);
+		this.hashCount = Math.max(1, (int)Math.round((double)bitCount / expectedInsertions * Math.log(2)));
+		this.clock = clock;
+		this.bits = new AtomicLongArray((bitCount + Long.SIZE - 1) / Long.SIZE);
+	}
+
+	/**
+	 * 토큰 폐기 등록
+	 * @param jwtId 토큰의 jwtId 클레임
+	 * @param expirationEpochSecond 토큰의 expiration(이후 목록에서 제거 가능, 없으면 Long.MAX_VALUE)
+	 */
+	public synchronized void revoke(String jwtId, long expirationEpochSecond) {
+		if (Objects.isNull(jwtId)) {
+			throw new JwtException(JwtErrorCode.INVALID_CLAIMS, "JwtId is required");
+		}
+		if (revoked.size() >= expectedInsertions) {
+			purgeExpired();
+		}
+		revoked.put(jwtId, expirationEpochSecond);
+		add(bits, jwtId);
+	}
+
+	/**
+	 * 검증된 토큰의 Payload로 폐기 등록
+	 */
+	public void revoke(Payload payload) {
+		Long expiration = payload.getExpirationEpochSecond();
+		revoke(payload.getJwtId(), Objects.isNull(expiration) ? Long.MAX_VALUE : expiration);
+	}
+
+	@Override
+	public boolean isRevoked(String jwtId) {
+		if (Objects.isNull(jwtId) || !mightContain(bits, jwtId)) {
+			return false;
+		}
+		return revoked.containsKey(jwtId);
+	}
+
+	/**
+	 * expiration이 지난 항목 제거 후 Bloom 필터 재생성
+	 * @return 제거된 항목 수
+	 */
+	public synchronized int purgeExpired() {
+		long now = clock.currentEpochSecond();
+		int removed = 0;
+		Iterator<Map.Entry<String, Long>> iterator = revoked.entrySet().iterator();
+		while (iterator.hasNext()) {
+			if (iterator.next().getValue() < now) {
+				iterator.remove();
+				removed++;
+			}
+		}
+		if (removed > 0) {
+			AtomicLongArray rebuilt = new AtomicLongArray(bits.length());
+			for (String jwtId : revoked.keySet()) {
+				add(rebuilt, jwtId);
+			}
+			bits = rebuilt;
+		}
+		return removed;
+	}
+
+	public int size() {
+		return revoked.size();
+	}
+
+	public int getBitCount() {
+		return bitCount;
+	}
+
+	public int getHashCount() {
+		return hashCount;
+	}
+
+	private void add(AtomicLongArray target, String jwtId) {
+		long hash = hash(jwtId);
+		int hash1 = (int)hash;
+		int hash2 = (int)(hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			int bit = ((hash1 + i * hash2) & Integer.MAX_VALUE) % bitCount;
+			long mask = 1L << bit;
+			int index = bit >>> 6;
+			long current;
+			do {
+				current = target.get(index);
+				if ((current & mask) != 0) {
+					break;
+				}
+			} while (!target.compareAndSet(index, current, current | mask));
+		}
+	}
+
+	private boolean mightContain(AtomicLongArray target, String jwtId) {
+		long hash = hash(jwtId);
+		int hash1 = (int)hash;
+		int hash2 = (int)(hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			int bit = ((hash1 + i * hash2) & Integer.MAX_VALUE) % bitCount;
+			if ((target.get(bit >>> 6) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 64비트 FNV-1a 해시(상위, 하위 32비트를 이중 해싱에 사용)
+	 */
+	private static long hash(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b & 0xff;
+			hash *= 0x100000001b3L;
+		}
+		// 하위 비트 분포 개선(MurmurHash3 fmix64)
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
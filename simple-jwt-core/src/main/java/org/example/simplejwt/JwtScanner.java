@@ -0,0 +1,160 @@
+package org.example.simplejwt;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import org.example.simplejwt.JwtException.JwtErrorCode;
+
+/**
+ * JWT 토큰 스캐너
+ *  - 정규식 없이 두 개의 구분자('.') 위치만 찾아 Header, Payload, Signature 구간을 나눈다.
+ *  - String, byte[] 구간, ByteBuffer(Direct 포함) 입력을 모두 같은 방식으로 처리한다.
+ */
+class JwtScanner {
+	private static final byte SEPARATOR = '.';
+
+	public static Token scan(String token) {
+		if (Objects.isNull(token)) {
+			throw new JwtException(JwtErrorCode.INVALID_TOKEN);
+		}
+		ByteBuffer source = ByteBuffer.wrap(token.getBytes(StandardCharsets.US_ASCII));
+		return scanSegments(source, false);
+	}
+
+	public static Token scan(byte[] token, int offset, int length) {
+		if (Objects.isNull(token)) {
+			throw new JwtException(JwtErrorCode.INVALID_TOKEN);
+		}
+		return scanSegments(ByteBuffer.wrap(token, offset, length), true);
+	}
+
+	public static Token scan(ByteBuffer token) {
+		if (Objects.isNull(token)) {
+			throw new JwtException(JwtErrorCode.INVALID_TOKEN);
+		}
+		return scanSegments(token, true);
+	}
+
+	/**
+	 * @param shared 호출자가 소유한 버퍼인지 여부(검증 결과에 보관할 때 복사)
+	 */
+	private static Token scanSegments(ByteBuffer source, boolean shared) {
+		int start = source.position();
+		int end = source.limit();
+		int firstSeparator = -1;
+		int secondSeparator = -1;
+
+		for (int i = start; i < end; i++) {
+			if (source.get(i) != SEPARATOR) {
+				continue;
+			}
+			if (firstSeparator < 0) {
+				firstSeparator = i;
+			} else if (secondSeparator < 0) {
+				secondSeparator = i;
+			} else {
+				throw new JwtException(JwtErrorCode.INVALID_TOKEN);
+			}
+		}
+
+		// HEADER.PAYLOAD.SIGNATURE 형식이 아니거나 Header, Signature가 비어있는 경우
+		if (secondSeparator < 0 || firstSeparator == start || secondSeparator == end - 1) {
+			throw new JwtException(JwtErrorCode.INVALID_TOKEN);
+		}
+
+		return new Token(source, start, firstSeparator, secondSeparator, end, shared);
+	}
+
+	/**
+	 * 스캔된 토큰 구간 정보
+	 *  - 각 구간은 원본 버퍼를 공유하는 뷰로 제공되며 원본의 position, limit은 변경하지 않는다.
+	 *  - 호출자의 버퍼를 스캔한 토큰은 검증 결과에 보관하기 전에 detached()로 복사한다.
+	 */
+	static class Token {
+		private final ByteBuffer source;
+		private final int start;
+		private final int firstSeparator;
+		private final int secondSeparator;
+		private final int end;
+		private final boolean shared;
+
+		private Token(ByteBuffer source, int start, int firstSeparator, int secondSeparator, int end, boolean shared) {
+			this.source = source;
+			this.start = start;
+			this.firstSeparator = firstSeparator;
+			this.secondSeparator = secondSeparator;
+			this.end = end;
+			this.shared = shared;
+		}
+
+		/**
+		 * 호출자의 버퍼를 참조하지 않는 토큰(호출자 버퍼를 스캔한 경우 토큰 구간만 복사)
+		 *  - 호출자가 버퍼를 재사용해도 검증 결과의 세그먼트가 바뀌지 않는다.
+		 */
+		public Token detached() {
+			if (!shared) {
+				return this;
+			}
+			byte[] copy = new byte[end - start];
+			value().get(copy);
+			return new Token(ByteBuffer.wrap(copy), 0, firstSeparator - start, secondSeparator - start, end - start,
+				false);
+		}
+
+		public ByteBuffer header() {
+			return view(start, firstSeparator);
+		}
+
+		public ByteBuffer payload() {
+			return view(firstSeparator + 1, secondSeparator);
+		}
+
+		public ByteBuffer signature() {
+			return view(secondSeparator + 1, end);
+		}
+
+		/**
+		 * 토큰 전체 구간(HEADER.PAYLOAD.SIGNATURE)
+		 */
+		public ByteBuffer value() {
+			return view(start, end);
+		}
+
+		/**
+		 * 서명 대상 구간(HEADER.PAYLOAD)
+		 */
+		public ByteBuffer signingInput() {
+			return view(start, secondSeparator);
+		}
+
+		public String headerText() {
+			return text(start, firstSeparator);
+		}
+
+		public String payloadText() {
+			return text(firstSeparator + 1, secondSeparator);
+		}
+
+		public String signatureText() {
+			return text(secondSeparator + 1, end);
+		}
+
+		public int length() {
+			return end - start;
+		}
+
+		private ByteBuffer view(int from, int to) {
+			ByteBuffer view = source.duplicate();
+			view.limit(to).position(from);
+			return view;
+		}
+
+		private String text(int from, int to) {
+			if (source.hasArray()) {
+				return new String(source.array(), source.arrayOffset() + from, to - from, StandardCharsets.US_ASCII);
+			}
+			return StandardCharsets.US_ASCII.decode(view(from, to)).toString();
+		}
+	}
+}
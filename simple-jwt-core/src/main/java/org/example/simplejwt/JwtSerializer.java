@@ -0,0 +1,105 @@
+package org.example.simplejwt;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.example.simplejwt.JWT.Algorithm;
+import org.example.simplejwt.JwtAlgorithm.AlgorithmExecutor;
+import org.example.simplejwt.JwtMetrics.Phase;
+
+/**
+ * JWT 직렬화
+ *  - Header 세그먼트와 Payload JSON 바이트를 하나의 출력 배열에 바로 Base64url 인코딩하고,
+ *    같은 배열의 HEADER.PAYLOAD 구간으로 서명을 생성한다.
+ *  - 중간 String을 만들지 않으므로 결과를 ByteBuffer, OutputStream에 그대로 기록할 수 있다.
+ */
+class JwtSerializer {
+	private static final byte SEPARATOR = '.';
+
+	/**
+	 * @param metrics 단계별 처리 시간(ENCODE, SIGNATURE) 수집기
+	 * @param algorithm 지표에 전달할 알고리즘
+	 */
+	public static SerializedToken serialize(byte[] headerSegment, byte[] payloadJson, int payloadOffset,
+		int payloadLength, AlgorithmExecutor algorithmExecutor, JwtMetrics metrics, Algorithm algorithm) {
+		boolean timed = metrics.isEnabled();
+		long time = timed ? System.nanoTime() : 0;
+		long encodeNanos = 0;
+
+		int payloadSegmentLength = JwtSupporter.encodedLengthWithoutPadding(payloadLength);
+		int signingInputLength = headerSegment.length + 1 + payloadSegmentLength;
+		int maxSignatureSegmentLength = JwtSupporter.encodedLengthWithoutPadding(algorithmExecutor.maxSignatureLength());
+		byte[] token = new byte[signingInputLength + 1 + maxSignatureSegmentLength];
+
+		// 1. HEADER.PAYLOAD
+		System.arraycopy(headerSegment, 0, token, 0, headerSegment.length);
+		token[headerSegment.length] = SEPARATOR;
+		JwtSupporter.encodeBase64WithoutPadding(payloadJson, payloadOffset, payloadLength, token,
+			headerSegment.length + 1);
+
+		// 2. SIGNATURE
+		if (timed) {
+			long now = System.nanoTime();
+			encodeNanos = now - time;
+			time = now;
+		}
+		byte[] signature = algorithmExecutor.execute(ByteBuffer.wrap(token, 0, signingInputLength));
+		if (timed) {
+			long now = System.nanoTime();
+			metrics.onPhase(Phase.SIGNATURE, algorithm, now - time);
+			time = now;
+		}
+		int signatureSegmentLength = JwtSupporter.encodedLengthWithoutPadding(signature.length);
+		if (signatureSegmentLength > maxSignatureSegmentLength) {
+			token = Arrays.copyOf(token, signingInputLength + 1 + signatureSegmentLength);
+		}
+		token[signingInputLength] = SEPARATOR;
+		JwtSupporter.encodeBase64WithoutPadding(signature, 0, signature.length, token, signingInputLength + 1);
+		if (timed) {
+			metrics.onPhase(Phase.ENCODE, algorithm, encodeNanos + System.nanoTime() - time);
+		}
+
+		return new SerializedToken(token, signingInputLength + 1 + signatureSegmentLength);
+	}
+
+	/**
+	 * 직렬화된 JWT(배열의 0부터 length까지)
+	 */
+	static class SerializedToken {
+		private final byte[] bytes;
+		private final int length;
+
+		private SerializedToken(byte[] bytes, int length) {
+			this.bytes = bytes;
+			this.length = length;
+		}
+
+		public int length() {
+			return length;
+		}
+
+		public String toString() {
+			return new String(bytes, 0, length, StandardCharsets.US_ASCII);
+		}
+
+		/**
+		 * @throws BufferOverflowException target의 남은 공간이 부족한 경우
+		 */
+		public int writeTo(ByteBuffer target) {
+			if (target.remaining() < length) {
+				throw new BufferOverflowException();
+			}
+			target.put(bytes, 0, length);
+			return length;
+		}
+
+		public int writeTo(OutputStream target) throws IOException {
+			target.write(bytes, 0, length);
+			return length;
+		}
+	}
+}
@@ -1,12 +1,29 @@
 package org.example.simplejwt;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Base64.Decoder;
 import java.util.Base64.Encoder;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 class JwtSupporter {
 	public static ObjectMapper objectMapper = new ObjectMapper();
@@ -14,6 +31,17 @@ class JwtSupporter {
 	public static Encoder base64UrlEncoder = Base64.getUrlEncoder();
 	public static Decoder base64UrlDecoder = Base64.getUrlDecoder();
 
+	private static final byte[] BASE64_URL_ALPHABET =
+		"ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+	/**
+	 * 스트리밍으로 읽지 않고 전체 클레임 Map에서 조회해야 하는 클레임 표시
+	 */
+	static final Object DEFERRED_CLAIM = new Object();
+
+	private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+	private static final Map<Class<?>, ObjectReader> OBJECT_READERS = new ConcurrentHashMap<>();
+	private static final ThreadLocal<JsonBuffer> JSON_BUFFER = ThreadLocal.withInitial(JsonBuffer::new);
+
 	public static String writeValueAsString(Object value) {
 		try {
 			return objectMapper.writeValueAsString(value);
@@ -22,6 +50,41 @@ class JwtSupporter {
 		}
 	}
 
+	public static byte[] writeValueAsBytes(Object value) {
+		try {
+			return objectMapper.writeValueAsBytes(value);
+		} catch (JsonProcessingException e) {
+			throw new JwtException(JwtException.JwtErrorCode.PARSING_ERROR, e);
+		}
+	}
+
+	/**
+	 * 스레드별로 재사용하는 버퍼에 JSON 직렬화
+	 *  - 반환된 버퍼는 같은 스레드에서 다음 호출 전까지만 유효하다.
+	 */
+	public static JsonBuffer writeValueToBuffer(Object value) {
+		JsonBuffer buffer = jsonBuffer();
+		try {
+			objectMapper.writeValue(buffer, value);
+			return buffer;
+		} catch (IOException e) {
+			throw new JwtException(JwtException.JwtErrorCode.PARSING_ERROR, e);
+		}
+	}
+
+	/**
+	 * 스레드별로 재사용하는 JSON 버퍼 조회(비어있는 상태로 반환)
+	 */
+	public static JsonBuffer jsonBuffer() {
+		JsonBuffer buffer = JSON_BUFFER.get();
+		if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+			buffer = new JsonBuffer();
+			JSON_BUFFER.set(buffer);
+		}
+		buffer.reset();
+		return buffer;
+	}
+
 	public static <T> T readValue(String value, Class<T> clazz) {
 		try {
 			return objectMapper.readValue(value, clazz);
@@ -30,6 +93,207 @@ class JwtSupporter {
 		}
 	}
 
+	public static <T> T readValue(byte[] value, Class<T> clazz) {
+		try {
+			return objectMapper.readValue(value, clazz);
+		} catch (IOException e) {
+			throw new JwtException(JwtException.JwtErrorCode.PARSING_ERROR, e);
+		}
+	}
+
+	/**
+	 * 타입별로 캐싱된 ObjectReader로 JSON을 객체(record, POJO)에 바로 바인딩
+	 *  - 대상 타입에 없는 클레임은 무시한다.
+	 */
+	public static <T> T bindValue(byte[] value, Class<T> clazz) {
+		try {
+			return objectReaderFor(clazz).readValue(value);
+		} catch (IOException e) {
+			throw new JwtException(JwtException.JwtErrorCode.PARSING_ERROR, e);
+		}
+	}
+
+	public static <T> T convertValue(Object value, Class<T> clazz) {
+		try {
+			JsonNode tree = objectMapper.valueToTree(value);
+			return objectReaderFor(clazz).readValue(tree);
+		} catch (IOException | IllegalArgumentException e) {
+			throw new JwtException(JwtException.JwtErrorCode.PARSING_ERROR, e);
+		}
+	}
+
+	private static ObjectReader objectReaderFor(Class<?> clazz) {
+		return OBJECT_READERS.computeIfAbsent(clazz, type -> objectMapper.readerFor(type)
+			.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+	}
+
+	public static byte[] encodeBase64WithoutPadding(byte[] src) {
+		return base64UrlEncoderWithoutPadding.encode(src);
+	}
+
+	/**
+	 * Base64url 인코딩 결과를 dst에 기록(dst는 인코딩 길이 이상이어야 함)
+	 * @return 기록된 바이트 수
+	 */
+	public static int encodeBase64WithoutPadding(byte[] src, byte[] dst) {
+		return base64UrlEncoderWithoutPadding.encode(src, dst);
+	}
+
+	/**
+	 * src의 구간을 dst의 지정 위치에 Base64url(패딩 없음)로 인코딩
+	 * @return 기록된 바이트 수
+	 */
+	public static int encodeBase64WithoutPadding(byte[] src, int offset, int length, byte[] dst, int dstOffset) {
+		int sourcePosition = offset;
+		int targetPosition = dstOffset;
+		int fullGroupEnd = offset + (length / 3) * 3;
+		while (sourcePosition < fullGroupEnd) {
+			int bits = (src[sourcePosition++] & 0xff) << 16 | (src[sourcePosition++] & 0xff) << 8
+				| (src[sourcePosition++] & 0xff);
+			dst[targetPosition++] = BASE64_URL_ALPHABET[(bits >>> 18) & 0x3f];
+			dst[targetPosition++] = BASE64_URL_ALPHABET[(bits >>> 12) & 0x3f];
+			dst[targetPosition++] = BASE64_URL_ALPHABET[(bits >>> 6) & 0x3f];
+			dst[targetPosition++] = BASE64_URL_ALPHABET[bits & 0x3f];
+		}
+
+		int remaining = offset + length - fullGroupEnd;
+		if (remaining == 1) {
+			int b0 = src[sourcePosition] & 0xff;
+			dst[targetPosition++] = BASE64_URL_ALPHABET[b0 >>> 2];
+			dst[targetPosition++] = BASE64_URL_ALPHABET[(b0 << 4) & 0x3f];
+		} else if (remaining == 2) {
+			int b0 = src[sourcePosition] & 0xff;
+			int b1 = src[sourcePosition + 1] & 0xff;
+			dst[targetPosition++] = BASE64_URL_ALPHABET[b0 >>> 2];
+			dst[targetPosition++] = BASE64_URL_ALPHABET[(b0 << 4 | b1 >>> 4) & 0x3f];
+			dst[targetPosition++] = BASE64_URL_ALPHABET[(b1 << 2) & 0x3f];
+		}
+		return targetPosition - dstOffset;
+	}
+
+	public static int encodedLengthWithoutPadding(int length) {
+		return (length / 3) * 4 + (length % 3 == 0 ? 0 : length % 3 + 1);
+	}
+
+	/**
+	 * 상수 시간 비교
+	 *  - 일치하지 않는 위치와 관계없이 전체 바이트를 비교하여 타이밍 정보가 노출되지 않도록 한다.
+	 *  - actual의 position부터 limit까지 비교하며 position은 변경하지 않는다.
+	 */
+	public static boolean constantTimeEquals(byte[] expected, ByteBuffer actual) {
+		if (expected.length != actual.remaining()) {
+			return false;
+		}
+		int position = actual.position();
+		int result = 0;
+		for (int i = 0; i < expected.length; i++) {
+			result |= expected[i] ^ actual.get(position + i);
+		}
+		return result == 0;
+	}
+
+	/**
+	 * JSON 객체를 스트리밍으로 읽어 최상위의 지정된 클레임 값만 추출
+	 *  - 문자열, 정수, 불리언 값만 추출하고 그 외(객체, 배열, 실수) 값은 DEFERRED_CLAIM으로 표시한다.
+	 *  - 전체 JSON을 끝까지 읽으므로 형식이 잘못된 JSON은 이 단계에서 PARSING_ERROR가 발생한다.
+	 */
+	public static Map<String, Object> readRegisteredClaims(byte[] json, Set<String> claimNames) {
+		Map<String, Object> claims = new HashMap<>(8);
+		try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new JwtException(JwtException.JwtErrorCode.PARSING_ERROR, "Payload must be a JSON object");
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String claimName = parser.getCurrentName();
+				JsonToken token = parser.nextToken();
+				if (!claimNames.contains(claimName)) {
+					parser.skipChildren();
+					continue;
+				}
+				switch (token) {
+					case VALUE_STRING -> claims.put(claimName, parser.getText());
+					case VALUE_NUMBER_INT -> claims.put(claimName, parser.getNumberValue());
+					case VALUE_TRUE, VALUE_FALSE -> claims.put(claimName, parser.getBooleanValue());
+					case VALUE_NULL -> claims.put(claimName, null);
+					default -> {
+						claims.put(claimName, DEFERRED_CLAIM);
+						parser.skipChildren();
+					}
+				}
+			}
+			if (parser.currentToken() != JsonToken.END_OBJECT || Objects.nonNull(parser.nextToken())) {
+				throw new JwtException(JwtException.JwtErrorCode.PARSING_ERROR, "Payload must be a JSON object");
+			}
+			return claims;
+		} catch (IOException e) {
+			throw new JwtException(JwtException.JwtErrorCode.PARSING_ERROR, e);
+		}
+	}
+
+	/**
+	 * JSON 객체의 최상위 정수 클레임 값만 바꾸어 target에 기록(나머지 바이트는 그대로 복사)
+	 *  - 스트리밍으로 값의 바이트 위치만 찾으며, 없는 클레임은 객체 끝에 추가한다.
+	 * @param values 바꿀 클레임 이름과 값(순서대로 추가)
+	 * @return 바꿀 클레임의 기존 값이 정수가 아니어서 바이트 단위로 바꿀 수 없는 경우 false
+	 */
+	public static boolean patchNumberClaims(byte[] json, Map<String, Long> values, JsonBuffer target) {
+		List<int[]> ranges = new ArrayList<>(values.size());
+		List<String> rangeNames = new ArrayList<>(values.size());
+		Set<String> foundNames = new HashSet<>();
+		boolean empty = true;
+		int end;
+		try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new JwtException(JwtException.JwtErrorCode.PARSING_ERROR, "Payload must be a JSON object");
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				empty = false;
+				String claimName = parser.getCurrentName();
+				JsonToken token = parser.nextToken();
+				if (!values.containsKey(claimName)) {
+					parser.skipChildren();
+					continue;
+				}
+				if (token != JsonToken.VALUE_NUMBER_INT) {
+					return false;
+				}
+				int start = (int)parser.getTokenLocation().getByteOffset();
+				ranges.add(new int[] {start, start + parser.getTextLength()});
+				rangeNames.add(claimName);
+				foundNames.add(claimName);
+			}
+			if (parser.currentToken() != JsonToken.END_OBJECT) {
+				throw new JwtException(JwtException.JwtErrorCode.PARSING_ERROR, "Payload must be a JSON object");
+			}
+			end = (int)parser.getTokenLocation().getByteOffset();
+		} catch (IOException e) {
+			throw new JwtException(JwtException.JwtErrorCode.PARSING_ERROR, e);
+		}
+
+		int position = 0;
+		for (int i = 0; i < ranges.size(); i++) {
+			int[] range = ranges.get(i);
+			target.write(json, position, range[0] - position);
+			writeAscii(target, Long.toString(values.get(rangeNames.get(i))));
+			position = range[1];
+		}
+		target.write(json, position, end - position);
+		for (Map.Entry<String, Long> value : values.entrySet()) {
+			if (foundNames.contains(value.getKey())) {
+				continue;
+			}
+			writeAscii(target, (empty ? "\"" : ",\"") + value.getKey() + "\":" + value.getValue());
+			empty = false;
+		}
+		target.write(json, end, json.length - end);
+		return true;
+	}
+
+	private static void writeAscii(JsonBuffer target, String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+		target.write(bytes, 0, bytes.length);
+	}
+
 	public static String encodeBase64ToStringWithoutPadding(byte[] src) {
 		return base64UrlEncoderWithoutPadding.encodeToString(src);
 	}
@@ -45,4 +309,38 @@ class JwtSupporter {
 	public static byte[] decodeBase64(String src) {
 		return base64UrlDecoder.decode(src);
 	}
+
+	/**
+	 * ByteBuffer의 position부터 limit까지 Base64url 디코딩(원본 버퍼의 position은 변경하지 않음)
+	 */
+	public static byte[] decodeBase64(ByteBuffer src) {
+		try {
+			ByteBuffer decoded = base64UrlDecoder.decode(src.duplicate());
+			if (decoded.hasArray() && decoded.arrayOffset() == 0 && decoded.array().length == decoded.remaining()) {
+				return decoded.array();
+			}
+			byte[] bytes = new byte[decoded.remaining()];
+			decoded.get(bytes);
+			return bytes;
+		} catch (IllegalArgumentException e) {
+			throw new JwtException(JwtException.JwtErrorCode.MALFORMED_TOKEN, e);
+		}
+	}
+
+	/**
+	 * 내부 배열에 직접 접근할 수 있는 재사용 버퍼
+	 */
+	static class JsonBuffer extends ByteArrayOutputStream {
+		JsonBuffer() {
+			super(512);
+		}
+
+		byte[] array() {
+			return buf;
+		}
+
+		int capacity() {
+			return buf.length;
+		}
+	}
 }
@@ -0,0 +1,272 @@
+package org.example.simplejwt;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.example.simplejwt.JWT.Algorithm;
+import org.example.simplejwt.JWT.Encoding;
+import org.example.simplejwt.JwtAlgorithm.AlgorithmExecutor;
+import org.example.simplejwt.JwtComponenet.ParsedJwt;
+import org.example.simplejwt.JwtComponenet.Payload;
+import org.example.simplejwt.JwtException.JwtErrorCode;
+import org.example.simplejwt.JwtSerializer.SerializedToken;
+import org.example.simplejwt.JwtSupporter.JsonBuffer;
+
+/**
+ * JWT 발급 템플릿
+ *  - 알고리즘, 키, 고정 클레임(issuer, audience 등)을 생성 시점에 한 번만 처리한다.
+ *  - Header 세그먼트와 고정 클레임의 JSON 조각을 미리 만들어 두고, 발급 시에는 변하는 클레임만 직렬화한다.
+ *  - 불변 객체로 여러 스레드에서 공유하여 사용할 수 있다.
+ */
+public class JwtTemplate {
+	private final Algorithm algorithm;
+	private final AlgorithmExecutor algorithmExecutor;
+	private final byte[] headerSegment;
+	private final byte[] compressedHeaderSegment;
+	private final int minCompressionLength;
+	private final byte[] staticClaimsJson;
+	private final Set<String> staticClaimNames;
+	private final JwtMetrics metrics;
+	private final Map<String, Object> staticClaims;
+	private final Encoding encoding;
+
+	/**
+	 * @param compressedHeaderSegment 압축된 Payload에 사용할 Header 세그먼트(압축을 사용하지 않으면 null)
+	 * @param minCompressionLength 압축을 적용할 Payload의 최소 길이
+	 */
+	JwtTemplate(Algorithm algorithm, byte[] headerSegment, byte[] compressedHeaderSegment, int minCompressionLength,
+		AlgorithmExecutor algorithmExecutor, Map<String, Object> staticClaims, JwtMetrics metrics, Encoding encoding) {
+		this.algorithm = algorithm;
+		this.metrics = metrics;
+		// CBOR 맵은 JSON 조각처럼 이어 붙일 수 없으므로 발급 시 고정 클레임과 병합하여 직렬화한다.
+		// (issuer(null)처럼 값이 null인 클레임도 JSON과 같이 그대로 기록하므로 Map.copyOf를 사용하지 않는다.)
+		this.staticClaims = encoding == Encoding.CBOR
+			? Collections.unmodifiableMap(new HashMap<>(staticClaims)) : null;
+		this.encoding = encoding;
+		this.algorithmExecutor = algorithmExecutor;
+		this.headerSegment = headerSegment;
+		this.compressedHeaderSegment = compressedHeaderSegment;
+		this.minCompressionLength = minCompressionLength;
+		this.staticClaimNames = Collections.unmodifiableSet(new HashSet<>(staticClaims.keySet()));
+
+		// {"issuer":"...","audience":"..."} 에서 중괄호를 제외한 JSON 조각
+		byte[] json = JwtSupporter.writeValueAsBytes(new HashMap<>(staticClaims));
+		this.staticClaimsJson = Arrays.copyOfRange(json, 1, json.length - 1);
+	}
+
+	public Algorithm getAlgorithm() {
+		return algorithm;
+	}
+
+	/**
+	 * JWT 발급
+	 * @param subject subject 클레임
+	 * @param issuedAt issuedAt 클레임
+	 * @param expiration expiration 클레임
+	 * @return JWT(HEADER.PAYLOAD.SIGNATURE)
+	 */
+	public String mint(String subject, ZonedDateTime issuedAt, ZonedDateTime expiration) {
+		Map<String, Object> claims = new HashMap<>(4);
+		claims.put("subject", subject);
+		if (Objects.nonNull(issuedAt)) {
+			claims.put("issuedAt", issuedAt.toEpochSecond());
+		}
+		if (Objects.nonNull(expiration)) {
+			claims.put("expiration", expiration.toEpochSecond());
+		}
+		return mint(claims);
+	}
+
+	/**
+	 * JWT 발급
+	 * @param claims 발급마다 달라지는 클레임(템플릿의 고정 클레임과 이름이 겹치면 안 됨)
+	 * @return JWT(HEADER.PAYLOAD.SIGNATURE)
+	 */
+	public String mint(Map<String, Object> claims) {
+		return serialize(claims).toString();
+	}
+
+	/**
+	 * JWT를 발급하여 ByteBuffer에 기록
+	 * @return 기록된 바이트 수
+	 * @throws java.nio.BufferOverflowException 버퍼의 남은 공간이 부족한 경우
+	 */
+	public int mint(Map<String, Object> claims, ByteBuffer target) {
+		return serialize(claims).writeTo(target);
+	}
+
+	/**
+	 * JWT를 발급하여 OutputStream에 기록
+	 * @return 기록된 바이트 수
+	 */
+	public int mint(Map<String, Object> claims, OutputStream target) throws IOException {
+		return serialize(claims).writeTo(target);
+	}
+
+	/**
+	 * subject 목록에 대한 JWT 일괄 발급
+	 * @return subject 목록과 같은 순서의 JWT 목록
+	 */
+	public List<String> mintAll(List<String> subjects, ZonedDateTime issuedAt, ZonedDateTime expiration) {
+		List<String> tokens = new ArrayList<>(subjects.size());
+		for (String subject : subjects) {
+			tokens.add(mint(subject, issuedAt, expiration));
+		}
+		return tokens;
+	}
+
+	/**
+	 * 검증된 JWT의 시간 클레임만 바꾸어 다시 서명(토큰 갱신)
+	 *  - JSON Payload는 디코딩된 바이트에서 시간 클레임 값의 위치만 찾아 바꾸고, 나머지 클레임은 다시 직렬화하지 않는다.
+	 *  - CBOR Payload이거나 시간 클레임 값이 정수가 아닌 경우, 템플릿이 CBOR 인코딩인 경우에는 전체 클레임을 다시 직렬화한다.
+	 *  - 원본 토큰의 클레임을 그대로 사용하며 템플릿의 고정 클레임은 다시 추가하지 않는다.
+	 * @param parsedJwt 검증된 JWT(템플릿과 같은 알고리즘)
+	 * @param expiration expiration 클레임(null이면 기존 값 유지)
+	 * @param issuedAt issuedAt 클레임(null이면 기존 값 유지)
+	 * @param notBeforeAt notBeforeAt 클레임(null이면 기존 값 유지)
+	 * @return JWT(HEADER.PAYLOAD.SIGNATURE)
+	 */
+	public String renew(ParsedJwt parsedJwt, ZonedDateTime expiration, ZonedDateTime issuedAt,
+		ZonedDateTime notBeforeAt) {
+		if (parsedJwt.getAlgorithm() != algorithm) {
+			throw new JwtException(JwtErrorCode.UNSUPPORTED_ALGORITHM,
+				"Token algorithm does not match the template: " + parsedJwt.getAlgorithm());
+		}
+		Map<String, Long> timeClaims = new LinkedHashMap<>(4);
+		if (Objects.nonNull(expiration)) {
+			timeClaims.put("expiration", expiration.toEpochSecond());
+		}
+		if (Objects.nonNull(issuedAt)) {
+			timeClaims.put("issuedAt", issuedAt.toEpochSecond());
+		}
+		if (Objects.nonNull(notBeforeAt)) {
+			timeClaims.put("notBeforeAt", notBeforeAt.toEpochSecond());
+		}
+		return record((timed, start) -> renew(parsedJwt.getPayload(), timeClaims, timed, start)).toString();
+	}
+
+	private SerializedToken renew(Payload payload, Map<String, Long> timeClaims, boolean timed, long start) {
+		JsonBuffer payloadJson = JwtSupporter.jsonBuffer();
+		byte[] json = payload.json();
+		if (encoding == Encoding.JSON && Objects.nonNull(json)
+			&& JwtSupporter.patchNumberClaims(json, timeClaims, payloadJson)) {
+			return sign(payloadJson.array(), payloadJson.size(), timed, start);
+		}
+
+		// 바이트 단위로 바꿀 수 없는 경우 전체 클레임을 다시 직렬화
+		payloadJson.reset();
+		Map<String, Object> claims = new HashMap<>(payload.getClaims());
+		claims.putAll(timeClaims);
+		if (encoding == Encoding.CBOR) {
+			JwtCbor.writeClaims(claims, payloadJson);
+		} else {
+			try {
+				JwtSupporter.objectMapper.writeValue(payloadJson, claims);
+			} catch (IOException e) {
+				throw new JwtException(JwtErrorCode.PARSING_ERROR, e);
+			}
+		}
+		return sign(payloadJson.array(), payloadJson.size(), timed, start);
+	}
+
+	private SerializedToken serialize(Map<String, Object> claims) {
+		return record((timed, start) -> serialize(claims, timed, start));
+	}
+
+	/**
+	 * 발급 지표(발급 수, 처리 시간, 오류) 수집
+	 */
+	private SerializedToken record(TokenWriter writer) {
+		boolean timed = metrics.isEnabled();
+		long start = timed ? System.nanoTime() : 0;
+		try {
+			SerializedToken token = writer.write(timed, start);
+			if (timed) {
+				metrics.onBuilt(algorithm, token.length(), System.nanoTime() - start);
+			}
+			return token;
+		} catch (JwtException e) {
+			if (timed) {
+				metrics.onError(e.getErrorCode());
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 고정 클레임 JSON 조각 뒤에 변하는 클레임을 이어서 직렬화하여 하나의 객체로 병합
+	 *  - '{' + 고정 클레임 + '{변하는 클레임}' 형태로 기록한 뒤 변하는 클레임의 '{'를 ','로 바꾼다.
+	 */
+	private SerializedToken serialize(Map<String, Object> claims, boolean timed, long start) {
+		for (String claimName : claims.keySet()) {
+			if (staticClaimNames.contains(claimName)) {
+				throw new JwtException(JwtErrorCode.INVALID_CLAIMS, claimName + " is already defined in the template");
+			}
+		}
+
+		JsonBuffer payloadJson = JwtSupporter.jsonBuffer();
+		if (Objects.nonNull(staticClaims)) {
+			Map<String, Object> merged = new HashMap<>(staticClaims);
+			merged.putAll(claims);
+			JwtCbor.writeClaims(merged, payloadJson);
+			return sign(payloadJson.array(), payloadJson.size(), timed, start);
+		}
+		if (staticClaimsJson.length > 0) {
+			payloadJson.write('{');
+			payloadJson.write(staticClaimsJson, 0, staticClaimsJson.length);
+		}
+		int dynamicClaimsOffset = payloadJson.size();
+		try {
+			JwtSupporter.objectMapper.writeValue(payloadJson, claims);
+		} catch (IOException e) {
+			throw new JwtException(JwtErrorCode.PARSING_ERROR, e);
+		}
+
+		byte[] json = payloadJson.array();
+		int length = payloadJson.size();
+		if (staticClaimsJson.length > 0) {
+			if (length - dynamicClaimsOffset == 2) {
+				// 변하는 클레임이 없는 경우("{}") 고정 클레임만 닫는다.
+				length = dynamicClaimsOffset + 1;
+				json[dynamicClaimsOffset] = '}';
+			} else {
+				json[dynamicClaimsOffset] = ',';
+			}
+		}
+
+		return sign(json, length, timed, start);
+	}
+
+	/**
+	 * Payload 압축(최소 길이 이상인 경우) 후 서명
+	 */
+	private SerializedToken sign(byte[] payload, int length, boolean timed, long start) {
+		byte[] header = headerSegment;
+		if (Objects.nonNull(compressedHeaderSegment) && length >= minCompressionLength) {
+			payload = JwtCompression.deflate(payload, 0, length);
+			length = payload.length;
+			header = compressedHeaderSegment;
+		}
+		if (timed) {
+			metrics.onPhase(JwtMetrics.Phase.PAYLOAD, algorithm, System.nanoTime() - start);
+		}
+		return JwtSerializer.serialize(header, payload, 0, length, algorithmExecutor, metrics, algorithm);
+	}
+
+	@FunctionalInterface
+	private interface TokenWriter {
+		SerializedToken write(boolean timed, long start);
+	}
+}
@@ -0,0 +1,200 @@
+package org.example.simplejwt;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.example.simplejwt.JwtComponenet.ParsedJwt;
+import org.example.simplejwt.JwtException.JwtErrorCode;
+
+/**
+ * 서명 검증이 완료된 토큰 캐시
+ *  - 토큰의 SHA-256 다이제스트를 키로 검증 결과를 보관하여 비대칭 알고리즘의 서명 검증을 생략한다.
+ *  - 항목 수와 토큰 바이트 수로 크기를 제한하며, 초과 시 가장 오래 사용되지 않은 항목부터 제거한다.
+ *  - 제한은 세그먼트마다 나누어 적용하며, 세그먼트별 제한의 합은 전체 제한을 넘지 않는다.
+ *  - 토큰의 expiration 시점이 지나면 조회되지 않는다.
+ *  - 캐시는 JwtVerifier마다 생성되므로 키가 바뀌면(새 검증기) 이전 검증 결과는 사용되지 않는다.
+ *  - JwtKeyRing을 사용하는 경우 검증에 사용한 키가 폐기, 교체되면 캐싱된 결과는 사용되지 않는다.
+ */
+public class JwtTokenCache {
+	private static final int MAX_SEGMENT_COUNT = 16;
+	private static final ThreadLocal<MessageDigest> DIGESTS = ThreadLocal.withInitial(JwtTokenCache::newDigest);
+
+	private final Segment[] segments;
+	private final int maxEntries;
+	private final long maxBytes;
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	JwtTokenCache(int maxEntries, long maxBytes) {
+		if (maxEntries <= 0 || maxBytes <= 0) {
+			throw new JwtException(JwtErrorCode.INVALID_CONFIGURATION, "Cache size must be greater than 0");
+		}
+		this.maxEntries = maxEntries;
+		this.maxBytes = maxBytes;
+		// 세그먼트마다 최소 1개 항목, 1바이트를 보장할 수 있도록 세그먼트 수를 제한보다 작게 유지
+		int segmentCount = (int)Math.min(MAX_SEGMENT_COUNT, Math.min(maxEntries, maxBytes));
+		this.segments = new Segment[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			segments[i] = new Segment((int)share(maxEntries, segmentCount, i), share(maxBytes, segmentCount, i));
+		}
+	}
+
+	/**
+	 * 캐시 키 생성(토큰 전체 구간의 SHA-256 다이제스트)
+	 */
+	ByteBuffer keyOf(ByteBuffer token) {
+		MessageDigest digest = DIGESTS.get();
+		digest.update(token);
+		return ByteBuffer.wrap(digest.digest());
+	}
+
+	/**
+	 * @param keyHandle 검증에 사용한 키(저장 시와 다르면 조회되지 않음, 단일 키 검증기는 null)
+	 */
+	ParsedJwt get(ByteBuffer key, long nowEpochSecond, Object keyHandle) {
+		ParsedJwt parsedJwt = segmentOf(key).get(key, nowEpochSecond, keyHandle);
+		if (Objects.isNull(parsedJwt)) {
+			missCount.increment();
+		} else {
+			hitCount.increment();
+		}
+		return parsedJwt;
+	}
+
+	void put(ByteBuffer key, ParsedJwt parsedJwt, int tokenLength, long expirationEpochSecond, Object keyHandle) {
+		segmentOf(key).put(key, new Entry(parsedJwt, tokenLength, expirationEpochSecond, keyHandle));
+	}
+
+	public void clear() {
+		for (Segment segment : segments) {
+			segment.clear();
+		}
+	}
+
+	public long size() {
+		long size = 0;
+		for (Segment segment : segments) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	public double getHitRate() {
+		long hits = getHitCount();
+		long total = hits + getMissCount();
+		return total == 0 ? 0.0 : (double)hits / total;
+	}
+
+	private Segment segmentOf(ByteBuffer key) {
+		return segments[(key.hashCode() & 0x7fffffff) % segments.length];
+	}
+
+	/**
+	 * 전체 제한을 세그먼트 수로 나눈 몫(나머지는 앞쪽 세그먼트부터 1씩 배분)
+	 */
+	private static long share(long limit, int segmentCount, int index) {
+		return limit / segmentCount + (index < limit % segmentCount ? 1 : 0);
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new JwtException(JwtErrorCode.UNKNOWN_ERROR, e);
+		}
+	}
+
+	private static class Entry {
+		private final ParsedJwt parsedJwt;
+		private final int tokenLength;
+		private final long expirationEpochSecond;
+		private final Object keyHandle;
+
+		private Entry(ParsedJwt parsedJwt, int tokenLength, long expirationEpochSecond, Object keyHandle) {
+			this.parsedJwt = parsedJwt;
+			this.tokenLength = tokenLength;
+			this.expirationEpochSecond = expirationEpochSecond;
+			this.keyHandle = keyHandle;
+		}
+	}
+
+	/**
+	 * LRU 세그먼트(잠금 경합을 줄이기 위해 키 해시로 분할)
+	 */
+	private class Segment {
+		private final int maxEntries;
+		private final long maxBytes;
+		private final LinkedHashMap<ByteBuffer, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+		private long bytes;
+
+		private Segment(int maxEntries, long maxBytes) {
+			this.maxEntries = maxEntries;
+			this.maxBytes = maxBytes;
+		}
+
+		private synchronized ParsedJwt get(ByteBuffer key, long nowEpochSecond, Object keyHandle) {
+			Entry entry = entries.get(key);
+			if (Objects.isNull(entry)) {
+				return null;
+			}
+			if (entry.expirationEpochSecond <= nowEpochSecond || entry.keyHandle != keyHandle) {
+				entries.remove(key);
+				bytes -= entry.tokenLength;
+				return null;
+			}
+			return entry.parsedJwt;
+		}
+
+		private synchronized void put(ByteBuffer key, Entry entry) {
+			Entry previous = entries.put(key, entry);
+			if (Objects.nonNull(previous)) {
+				bytes -= previous.tokenLength;
+			}
+			bytes += entry.tokenLength;
+
+			Iterator<Map.Entry<ByteBuffer, Entry>> iterator = entries.entrySet().iterator();
+			while ((entries.size() > maxEntries || bytes > maxBytes) && iterator.hasNext()) {
+				Entry eldest = iterator.next().getValue();
+				iterator.remove();
+				bytes -= eldest.tokenLength;
+				evictionCount.increment();
+			}
+		}
+
+		private synchronized void clear() {
+			entries.clear();
+			bytes = 0;
+		}
+
+		private synchronized int size() {
+			return entries.size();
+		}
+	}
+}
@@ -0,0 +1,515 @@
+package org.example.simplejwt;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.security.Key;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.example.simplejwt.JWT.Algorithm;
+import org.example.simplejwt.JwtAlgorithm.AlgorithmExecutor;
+import org.example.simplejwt.JwtAlgorithm.AlgorithmKeyType;
+import org.example.simplejwt.JwtComponenet.Header;
+import org.example.simplejwt.JwtComponenet.ParsedJwt;
+import org.example.simplejwt.JwtComponenet.Payload;
+import org.example.simplejwt.JwtException.JwtErrorCode;
+import org.example.simplejwt.JwtMetrics.Phase;
+import org.example.simplejwt.JwtKeyRing.KeyEntry;
+
+/**
+ * JWT 검증기
+ *  - 키와 허용 알고리즘을 생성 시점에 고정하고, 디코딩된 키와 알고리즘별 AlgorithmExecutor를 재사용한다.
+ *  - 불변 객체로 여러 스레드에서 공유하여 사용할 수 있다.
+ */
+public class JwtVerifier {
+	private final Key key;
+	private final String encodedKey;
+	private final JwtKeyRing keyRing;
+	private final Set<Algorithm> algorithms;
+	private final JwtTokenCache tokenCache;
+	private final JwtClock clock;
+	private final long leewaySeconds;
+	private final JwtMetrics metrics;
+	private final JwtRevocationChecker revocationChecker;
+	private final JwtGate gate;
+	private final boolean timed;
+	private final Map<Algorithm, AlgorithmExecutor> executors = new ConcurrentHashMap<>();
+
+	JwtVerifier(Key key, JwtParser options) {
+		if (Objects.isNull(key)) {
+			throw new JwtException(JwtErrorCode.SIGNED_KEY_REQUIRED);
+		}
+
+		this.key = key;
+		this.encodedKey = null;
+		this.keyRing = null;
+		this.algorithms = allowedAlgorithms(options, JwtAlgorithm.algorithmsOf(key));
+		this.tokenCache = options.createTokenCache();
+		this.clock = options.getClock();
+		this.leewaySeconds = options.getLeewaySeconds();
+		this.metrics = options.getMetrics();
+		this.revocationChecker = options.getRevocationChecker();
+		this.gate = options.createGate(algorithms);
+		this.timed = metrics.isEnabled();
+	}
+
+	JwtVerifier(String encodedKey, JwtParser options) {
+		if (Objects.isNull(encodedKey)) {
+			throw new JwtException(JwtErrorCode.SIGNED_KEY_REQUIRED);
+		}
+
+		this.key = null;
+		this.encodedKey = encodedKey;
+		this.keyRing = null;
+		this.algorithms = allowedAlgorithms(options, JwtAlgorithm.algorithmsOf(encodedKey));
+		this.tokenCache = options.createTokenCache();
+		this.clock = options.getClock();
+		this.leewaySeconds = options.getLeewaySeconds();
+		this.metrics = options.getMetrics();
+		this.revocationChecker = options.getRevocationChecker();
+		this.gate = options.createGate(algorithms);
+		this.timed = metrics.isEnabled();
+	}
+
+	JwtVerifier(JwtKeyRing keyRing, JwtParser options) {
+		if (Objects.isNull(keyRing)) {
+			throw new JwtException(JwtErrorCode.SIGNED_KEY_REQUIRED);
+		}
+
+		this.key = null;
+		this.encodedKey = null;
+		this.keyRing = keyRing;
+		this.algorithms = allowedAlgorithms(options, EnumSet.allOf(Algorithm.class));
+		this.tokenCache = options.createTokenCache();
+		this.clock = options.getClock();
+		this.leewaySeconds = options.getLeewaySeconds();
+		this.metrics = options.getMetrics();
+		this.revocationChecker = options.getRevocationChecker();
+		this.gate = options.createGate(algorithms);
+		this.timed = metrics.isEnabled();
+	}
+
+	/**
+	 * 허용 알고리즘 중 검증 키 종류에 맞는 알고리즘만 사용
+	 *  - 공개키로 만든 검증기가 HS 토큰을 공개키 바이트로 검증하는 알고리즘 혼동을 막는다.
+	 */
+	private static Set<Algorithm> allowedAlgorithms(JwtParser options, Set<Algorithm> keyAlgorithms) {
+		Set<Algorithm> allowed = EnumSet.noneOf(Algorithm.class);
+		allowed.addAll(options.getAlgorithms());
+		allowed.retainAll(keyAlgorithms);
+		return Collections.unmodifiableSet(allowed);
+	}
+
+	public Set<Algorithm> getAlgorithms() {
+		return algorithms;
+	}
+
+	/**
+	 * 검증 결과 캐시(캐시를 사용하지 않는 경우 null)
+	 */
+	public JwtTokenCache getTokenCache() {
+		return tokenCache;
+	}
+
+	public Header header(String token) {
+		return parse(token).getHeader();
+	}
+
+	public Payload payload(String token) {
+		return parse(token).getPayload();
+	}
+
+	/**
+	 * JWT 검증 후 Payload를 지정한 타입(record, POJO)으로 바인딩
+	 * @param token JWT 토큰
+	 * @param claimsType 바인딩 대상 타입
+	 */
+	public <T> T payload(String token, Class<T> claimsType) {
+		return parse(token).getPayload().getClaims(claimsType);
+	}
+
+	/**
+	 * JWT 검증 및 추출
+	 *  - 토큰 분리, 디코딩, 서명 검증을 한 번만 수행하고 Header와 Payload를 함께 반환한다.
+	 * @param token JWT 토큰
+	 * @return 검증된 JWT
+	 */
+	public ParsedJwt parse(String token) {
+		long start = timed ? System.nanoTime() : 0;
+		try {
+			if (Objects.nonNull(token)) {
+				gate.checkLength(token.length());
+			}
+			return parse(JwtScanner.scan(token), start);
+		} catch (JwtException e) {
+			throw failed(e);
+		}
+	}
+
+	/**
+	 * byte[] 구간에 담긴 JWT 검증 및 추출
+	 */
+	public ParsedJwt parse(byte[] token, int offset, int length) {
+		long start = timed ? System.nanoTime() : 0;
+		try {
+			gate.checkLength(length);
+			return parse(JwtScanner.scan(token, offset, length), start);
+		} catch (JwtException e) {
+			throw failed(e);
+		}
+	}
+
+	/**
+	 * ByteBuffer(position부터 limit까지)에 담긴 JWT 검증 및 추출
+	 *  - 네트워크 버퍼에서 문자열 변환 없이 바로 검증하며, 버퍼의 position은 변경하지 않는다.
+	 */
+	public ParsedJwt parse(ByteBuffer token) {
+		long start = timed ? System.nanoTime() : 0;
+		try {
+			if (Objects.nonNull(token)) {
+				gate.checkLength(token.remaining());
+			}
+			return parse(JwtScanner.scan(token), start);
+		} catch (JwtException e) {
+			throw failed(e);
+		}
+	}
+
+	/**
+	 * 분리 Payload 서명 검증(RFC 7797, b64: false)
+	 *  - 입력을 일정 크기씩 읽어 검증하므로 큰 파일도 메모리에 올리지 않는다.
+	 * @param token HEADER..SIGNATURE
+	 * @param content 서명된 원본 Payload(끝까지 읽고 닫지 않음)
+	 * @return 검증된 Header
+	 */
+	public Header verifyDetached(String token, InputStream content) throws IOException {
+		return verifyDetached(token, JwtDetached.Content.of(content));
+	}
+
+	/**
+	 * 채널(FileChannel 등)에서 읽은 분리 Payload 서명 검증
+	 */
+	public Header verifyDetached(String token, ReadableByteChannel content) throws IOException {
+		return verifyDetached(token, JwtDetached.Content.of(content));
+	}
+
+	/**
+	 * ByteBuffer(position부터 limit까지, 메모리 매핑 파일 포함)에 담긴 분리 Payload 서명 검증
+	 */
+	public Header verifyDetached(String token, ByteBuffer content) {
+		try {
+			return verifyDetached(token, JwtDetached.Content.of(content));
+		} catch (IOException e) {
+			throw new JwtException(JwtErrorCode.SIGNATURE_ERROR, e);
+		}
+	}
+
+	private Header verifyDetached(String token, JwtDetached.Content content) throws IOException {
+		long start = timed ? System.nanoTime() : 0;
+		try {
+			if (Objects.nonNull(token)) {
+				gate.checkLength(token.length());
+			}
+			JwtScanner.Token scanned = JwtScanner.scan(token);
+			gate.checkSegments(scanned);
+			if (scanned.payload().hasRemaining()) {
+				throw new JwtException(JwtErrorCode.INVALID_TOKEN, "Payload must be detached");
+			}
+
+			Header header = decodeHeader(scanned.header());
+			if (!header.hasUnencodedPayload()) {
+				throw new JwtException(JwtErrorCode.UNSUPPORTED_TOKEN, "Header must contain b64: false");
+			}
+			Algorithm algorithm = Algorithm.from(header.getAlg());
+			KeyEntry keyEntry = Objects.isNull(keyRing) ? null : keyRing.get(header.getKid());
+
+			AlgorithmExecutor algorithmExecutor = Objects.isNull(keyEntry) ? executor(algorithm) : executor(algorithm, keyEntry);
+			if (!JwtDetached.verify(algorithmExecutor, scanned, content)) {
+				throw new JwtException(JwtErrorCode.INVALID_TOKEN);
+			}
+			if (timed) {
+				metrics.onVerified(algorithm, scanned.length(), System.nanoTime() - start);
+			}
+			return header;
+		} catch (JwtException e) {
+			throw failed(e);
+		}
+	}
+
+	/**
+	 * 여러 JWT 일괄 검증(ForkJoinPool 공용 풀에서 병렬 처리)
+	 * @param tokens JWT 토큰 목록
+	 * @return 입력 순서와 같은 순서의 토큰별 검증 결과
+	 */
+	public List<VerificationResult> parseAll(Collection<String> tokens) {
+		return parseAll(tokens, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * 여러 JWT 일괄 검증
+	 *  - 토큰 목록을 구간으로 나누어 executor에서 병렬로 검증하며, 디코딩된 키와 엔진은 모든 토큰이 공유한다.
+	 *  - 일부 토큰의 검증이 실패해도 나머지 토큰의 검증은 계속 진행된다.
+	 * @param tokens JWT 토큰 목록
+	 * @param executor 검증을 실행할 Executor
+	 * @return 입력 순서와 같은 순서의 토큰별 검증 결과
+	 */
+	public List<VerificationResult> parseAll(Collection<String> tokens, Executor executor) {
+		String[] values = tokens.toArray(new String[0]);
+		VerificationResult[] results = new VerificationResult[values.length];
+
+		int chunkCount = Math.min(values.length, Runtime.getRuntime().availableProcessors() * 4);
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[chunkCount];
+		for (int chunk = 0; chunk < chunkCount; chunk++) {
+			int from = (int)((long)values.length * chunk / chunkCount);
+			int to = (int)((long)values.length * (chunk + 1) / chunkCount);
+			futures[chunk] = CompletableFuture.runAsync(() -> {
+				for (int i = from; i < to; i++) {
+					results[i] = verifyQuietly(values[i]);
+				}
+			}, executor);
+		}
+		CompletableFuture.allOf(futures).join();
+
+		return Arrays.asList(results);
+	}
+
+	/**
+	 * 비동기 JWT 검증기 생성(기본 Executor, 동시 처리 한도 DEFAULT_MAX_PENDING)
+	 *  - 기본 Executor는 ForkJoinPool 공용 풀이다.
+	 */
+	public JwtAsyncVerifier async() {
+		return async(JwtAsyncVerifier.defaultExecutor(), JwtAsyncVerifier.DEFAULT_MAX_PENDING);
+	}
+
+	/**
+	 * 비동기 JWT 검증기 생성
+	 *  - 가상 스레드를 사용하려면 Executors.newVirtualThreadPerTaskExecutor()를 직접 전달한다.
+	 *    (작업마다 새 스레드에서 실행되므로 스레드별로 재사용하는 Mac, 버퍼는 검증마다 다시 만들어진다.)
+	 * @param executor 검증을 실행할 Executor
+	 * @param maxPending 동시에 처리할 수 있는 검증 수
+	 */
+	public JwtAsyncVerifier async(Executor executor, int maxPending) {
+		return new JwtAsyncVerifier(this, executor, maxPending);
+	}
+
+	VerificationResult verifyQuietly(String token) {
+		try {
+			return new VerificationResult(token, parse(token), null);
+		} catch (JwtException e) {
+			return new VerificationResult(token, null, e);
+		} catch (RuntimeException e) {
+			return new VerificationResult(token, null, new JwtException(JwtErrorCode.UNKNOWN_ERROR, e));
+		}
+	}
+
+	/**
+	 * 비표준 Header 디코딩
+	 *  - JSON(CBOR) 파싱 전에 바이트 탐색으로 찾은 알고리즘을 먼저 검사하고, 파싱 결과와 다르면 거부한다(alg 중복 등).
+	 */
+	private Header decodeHeader(ByteBuffer segment) {
+		byte[] decoded = JwtSupporter.decodeBase64(segment);
+		Algorithm algorithm = gate.checkHeaderAlgorithm(decoded);
+		Header header = Header.decode(decoded);
+		if (!algorithm.name().equals(header.getAlg())) {
+			throw new JwtException(JwtErrorCode.MALFORMED_TOKEN, "Header contains an ambiguous algorithm");
+		}
+		return header;
+	}
+
+	/**
+	 * @param start 검증 시작 시각(System.nanoTime, 지표를 수집하지 않으면 0)
+	 */
+	private ParsedJwt parse(JwtScanner.Token token, long start) {
+		// 디코딩, 서명 검증 전 Header 길이와 Base64url 문자 검사
+		gate.checkSegments(token);
+		long time = timed ? record(Phase.SCAN, null, start) : 0;
+
+		// Header에서 알고리즘 추출(표준 Header는 JSON 파싱 없이 바이트 비교로 확인)
+		Header header;
+		Algorithm algorithm = Header.canonicalAlgorithm(token.header());
+		if (Objects.nonNull(algorithm)) {
+			header = Header.canonicalHeader(algorithm);
+			// 키 조회, 캐시 조회, 서명 검증 전 허용 알고리즘 검사
+			gate.checkAlgorithm(algorithm);
+		} else {
+			header = decodeHeader(token.header());
+			algorithm = Algorithm.from(header.getAlg());
+			if (Objects.nonNull(header.getZip())) {
+				JwtCompression.checkSupported(header.getZip());
+			}
+			// 분리 Payload(b64: false) 등 crit으로 지정된 확장은 verifyDetached에서만 처리
+			if (Objects.nonNull(header.getCrit())) {
+				throw new JwtException(JwtErrorCode.UNSUPPORTED_TOKEN, "Unsupported critical header: " + header.getCrit());
+			}
+		}
+
+		// 키 목록을 사용하는 경우 kid로 검증 키 조회
+		KeyEntry keyEntry = Objects.isNull(keyRing) ? null : keyRing.get(header.getKid());
+		time = timed ? record(Phase.HEADER, algorithm, time) : 0;
+
+		// 비대칭 알고리즘은 캐싱된 검증 결과가 있으면 서명 검증을 생략
+		ParsedJwt parsedJwt;
+		if (Objects.isNull(tokenCache) || AlgorithmKeyType.of(algorithm, false) != AlgorithmKeyType.PUBLIC_KEY) {
+			parsedJwt = verify(token, header, algorithm, keyEntry, time);
+		} else {
+			ByteBuffer cacheKey = tokenCache.keyOf(token.value());
+			long now = clock.currentEpochSecond();
+			parsedJwt = tokenCache.get(cacheKey, now - leewaySeconds, keyEntry);
+			if (Objects.nonNull(parsedJwt)) {
+				validateClaims(parsedJwt.getPayload(), now);
+			} else {
+				parsedJwt = verify(token, header, algorithm, keyEntry, time);
+				Long expiration = parsedJwt.getPayload().getExpirationEpochSecond();
+				tokenCache.put(cacheKey, parsedJwt, token.length(),
+					Objects.isNull(expiration) ? Long.MAX_VALUE : expiration, keyEntry);
+			}
+		}
+
+		if (timed) {
+			metrics.onVerified(algorithm, token.length(), System.nanoTime() - start);
+		}
+		return parsedJwt;
+	}
+
+	private ParsedJwt verify(JwtScanner.Token token, Header header, Algorithm algorithm, KeyEntry keyEntry, long time) {
+		// 토큰에 Signature와 SignedKey를 통해 토큰의 Header, Payload로 새롭게 만든 Signature가 동일한지 검증
+		AlgorithmExecutor algorithmExecutor = Objects.isNull(keyEntry) ? executor(algorithm) : executor(algorithm, keyEntry);
+		if (!algorithmExecutor.verify(token.signingInput(), token.signature())) {
+			throw new JwtException(JwtErrorCode.INVALID_TOKEN);
+		}
+		time = timed ? record(Phase.SIGNATURE, algorithm, time) : 0;
+
+		// 토큰 만료기간 & 유효시작시간 검증
+		// Payload 전체를 Map으로 만들지 않고 시간 클레임 등 등록 클레임만 스트리밍으로 추출
+		// 압축된 Payload는 서명이 검증된 경우에만 최대 길이 제한을 두고 해제
+		byte[] payloadBytes = JwtSupporter.decodeBase64(token.payload());
+		if (Objects.nonNull(header.getZip())) {
+			payloadBytes = gate.inflate(payloadBytes);
+		}
+		Payload payload = Payload.decode(payloadBytes);
+		time = timed ? record(Phase.PAYLOAD, algorithm, time) : 0;
+		validateClaims(payload, clock.currentEpochSecond());
+		if (timed) {
+			record(Phase.CLAIMS, algorithm, time);
+		}
+
+		return new ParsedJwt(algorithm, header, payload, token);
+	}
+
+	/**
+	 * 단계별 처리 시간 전달
+	 * @return 현재 시각(다음 단계의 시작 시각)
+	 */
+	private long record(Phase phase, Algorithm algorithm, long since) {
+		long now = System.nanoTime();
+		metrics.onPhase(phase, algorithm, now - since);
+		return now;
+	}
+
+	private JwtException failed(JwtException e) {
+		if (timed) {
+			metrics.onError(e.getErrorCode());
+		}
+		return e;
+	}
+
+	/**
+	 * 시간 클레임 검증(epoch second 비교, 시계 오차 허용 범위 적용) 및 폐기 여부 확인
+	 *  - 캐싱된 검증 결과에도 매번 적용되므로 캐시 이후에 폐기된 토큰도 거부된다.
+	 */
+	private void validateClaims(Payload payload, long now) {
+		Long expiration = payload.getExpirationEpochSecond();
+		if (Objects.nonNull(expiration) && expiration < now - leewaySeconds) {
+			throw new JwtException(JwtErrorCode.EXPIRED_TOKEN);
+		}
+
+		Long notBeforeAt = payload.getNotBeforeAtEpochSecond();
+		if (Objects.nonNull(notBeforeAt) && notBeforeAt > now + leewaySeconds) {
+			throw new JwtException(JwtErrorCode.NOT_BEFORE_TOKEN);
+		}
+
+		if (Objects.nonNull(revocationChecker)) {
+			String jwtId = payload.getJwtId();
+			if (Objects.nonNull(jwtId) && revocationChecker.isRevoked(jwtId)) {
+				throw new JwtException(JwtErrorCode.REVOKED_TOKEN);
+			}
+		}
+	}
+
+	/**
+	 * 알고리즘별 AlgorithmExecutor 조회
+	 *  - 키 디코딩은 알고리즘당 최초 1회만 수행하고 이후에는 캐싱된 Executor를 재사용한다.
+	 */
+	AlgorithmExecutor executor(Algorithm algorithm) {
+		if (!algorithms.contains(algorithm)) {
+			throw new JwtException(JwtErrorCode.UNSUPPORTED_ALGORITHM, "Unsupported algorithm: " + algorithm);
+		}
+		return executors.computeIfAbsent(algorithm, this::createExecutor);
+	}
+
+	/**
+	 * 키 목록에서 조회한 키의 AlgorithmExecutor 조회(Header의 alg는 키에 등록된 알고리즘과 같아야 함)
+	 */
+	private AlgorithmExecutor executor(Algorithm algorithm, KeyEntry keyEntry) {
+		if (!algorithms.contains(algorithm) || keyEntry.getAlgorithm() != algorithm) {
+			throw new JwtException(JwtErrorCode.UNSUPPORTED_ALGORITHM, "Unsupported algorithm: " + algorithm);
+		}
+		return keyEntry.getAlgorithmExecutor();
+	}
+
+	private AlgorithmExecutor createExecutor(Algorithm algorithm) {
+		if (Objects.isNull(key)) {
+			return new AlgorithmExecutor(algorithm, encodedKey, AlgorithmKeyType.of(algorithm, false));
+		}
+		return new AlgorithmExecutor(algorithm, key);
+	}
+
+	/**
+	 * 일괄 검증 결과
+	 */
+	public static class VerificationResult {
+		private final String token;
+		private final ParsedJwt parsedJwt;
+		private final JwtException exception;
+
+		VerificationResult(String token, ParsedJwt parsedJwt, JwtException exception) {
+			this.token = token;
+			this.parsedJwt = parsedJwt;
+			this.exception = exception;
+		}
+
+		public boolean isVerified() {
+			return Objects.isNull(exception);
+		}
+
+		public String getToken() {
+			return token;
+		}
+
+		/**
+		 * 검증된 JWT(검증 실패 시 null)
+		 */
+		public ParsedJwt getParsedJwt() {
+			return parsedJwt;
+		}
+
+		/**
+		 * 검증 실패 원인(검증 성공 시 null)
+		 */
+		public JwtException getException() {
+			return exception;
+		}
+	}
+}
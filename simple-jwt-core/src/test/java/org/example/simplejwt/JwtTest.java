@@ -2,22 +2,53 @@ package org.example.simplejwt;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.KeyPair;
 import java.security.PrivateKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Base64;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.crypto.SecretKey;
 
 import org.example.simplejwt.JWT.Algorithm;
 import org.example.simplejwt.JwtComponenet.Header;
+import org.example.simplejwt.JwtComponenet.ParsedJwt;
 import org.example.simplejwt.JwtComponenet.Payload;
 import org.example.simplejwt.JwtException.JwtErrorCode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class JwtTest {
 
@@ -142,6 +173,27 @@ public class JwtTest {
 				.isEqualTo(ZonedDateTime.of(LocalDateTime.of(2099, 12, 31, 23, 59), ZoneId.of("Asia/Seoul")));
 		}
 
+		@Test
+		@DisplayName("JWT 생성 후 헤더와 페이로드 함께 추출")
+		void parseJwt_success() throws Exception {
+			String token = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.issuer("홍길동")
+				.subject("subject")
+				.expiration(ZonedDateTime.of(LocalDateTime.of(2099, 12, 31, 23, 59), ZoneId.of("Asia/Seoul")))
+				.build();
+
+			ParsedJwt parsedJwt = JWT.parser().signedKey(HMAC256_SECRET_KEY)
+				.parse(token);
+
+			assertThat(parsedJwt.getAlgorithm()).isEqualTo(Algorithm.HS256);
+			assertThat(parsedJwt.getHeader().getTyp()).isEqualTo("JWT");
+			assertThat(parsedJwt.getPayload().getSubject()).isEqualTo("subject");
+			assertThat(String.join(".", parsedJwt.getHeaderSegment(), parsedJwt.getPayloadSegment(),
+				parsedJwt.getSignatureSegment())).isEqualTo(token);
+		}
+
 		@Test
 		@DisplayName("JWT 생성 후 페이로드 추출 실패 - 유효기간 만료")
 		void parseJwtPayload_fail_expired() throws Exception {
@@ -187,4 +239,1848 @@ public class JwtTest {
 		}
 	}
 
-}
+	@Nested
+	@DisplayName("JWT 검증기 재사용 테스트")
+	class JwtVerifierTest {
+		@Test
+		@DisplayName("PublicKey로 생성한 검증기를 여러 토큰에 재사용")
+		void verifyWithReusableVerifier_success() throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.RS256, JWT.KeySize.LOW);
+			JwtVerifier verifier = JWT.parser()
+				.algorithms(Algorithm.RS256)
+				.verifier(keyPair.getPublic());
+
+			for (int i = 0; i < 3; i++) {
+				String token = JWT.builder()
+					.algorithm(Algorithm.RS256)
+					.privateKey(keyPair.getPrivate())
+					.subject("subject-" + i)
+					.expiration(ZonedDateTime.of(LocalDateTime.of(2099, 12, 31, 23, 59), ZoneId.of("Asia/Seoul")))
+					.build();
+
+				assertThat(verifier.payload(token).getSubject()).isEqualTo("subject-" + i);
+			}
+		}
+
+		@Test
+		@DisplayName("SecretKey로 생성한 검증기로 HMAC 토큰 검증")
+		void verifyWithSecretKeyVerifier_success() throws Exception {
+			SecretKey secretKey = JWT.generateSecretKey(Algorithm.HS256);
+			String token = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(secretKey)
+				.subject("subject")
+				.build();
+
+			Payload payload = JWT.parser().verifier(secretKey).payload(token);
+
+			assertThat(payload.getSubject()).isEqualTo("subject");
+		}
+
+		@Test
+		@DisplayName("허용되지 않은 알고리즘의 토큰 검증 실패")
+		void verifyWithNotAllowedAlgorithm_fail() throws Exception {
+			String token = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.subject("subject")
+				.build();
+
+			assertThatThrownBy(() -> {
+				JWT.parser().algorithms(Algorithm.RS256)
+					.signedKey(HMAC256_SECRET_KEY)
+					.payload(token);
+			}).isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.UNSUPPORTED_ALGORITHM);
+		}
+	}
+
+	@Nested
+	@DisplayName("암호화 엔진 재사용 테스트")
+	class AlgorithmEngineTest {
+		@Test
+		@DisplayName("여러 스레드에서 하나의 검증기로 동시에 검증")
+		void verifyConcurrently_success() throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.PS256, JWT.KeySize.LOW);
+			JwtVerifier verifier = JWT.parser().verifier(keyPair.getPublic());
+
+			List<String> tokens = IntStream.range(0, 32)
+				.mapToObj(i -> JWT.builder()
+					.algorithm(Algorithm.PS256)
+					.privateKey(keyPair.getPrivate())
+					.subject("subject-" + i)
+					.build())
+				.collect(Collectors.toList());
+
+			List<String> subjects = tokens.parallelStream()
+				.map(token -> verifier.payload(token).getSubject())
+				.collect(Collectors.toList());
+
+			assertThat(subjects).containsExactlyElementsOf(
+				IntStream.range(0, 32).mapToObj(i -> "subject-" + i).collect(Collectors.toList()));
+		}
+
+		@Test
+		@DisplayName("HMAC 서명 결과는 엔진 재사용 여부와 관계없이 동일")
+		void signWithReusedMac_success() throws Exception {
+			JwtAlgorithm.HmacAlgorithmService service = new JwtAlgorithm.HmacAlgorithmService(Algorithm.HS256,
+				HMAC256_SECRET_KEY);
+
+			byte[] first = service.sign("header.payload");
+			byte[] second = service.sign("header.payload");
+
+			assertThat(second).isEqualTo(first);
+		}
+
+		@Test
+		@DisplayName("한 번 사용하는 HMAC 구현체도 공유 구현체와 같은 서명 생성, 검증")
+		void signWithSingleUseMac_success() throws Exception {
+			byte[] secretKey = JwtSupporter.decodeBase64(HMAC256_SECRET_KEY);
+			JwtAlgorithm.HmacAlgorithmService shared = new JwtAlgorithm.HmacAlgorithmService(Algorithm.HS256, secretKey);
+			JwtAlgorithm.HmacAlgorithmService singleUse = new JwtAlgorithm.HmacAlgorithmService(Algorithm.HS256,
+				secretKey, false);
+
+			byte[] signature = singleUse.sign("header.payload");
+			String encoded = Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+
+			assertThat(signature).isEqualTo(shared.sign("header.payload"));
+			assertThat(singleUse.sign("header.payload")).isEqualTo(signature);
+			assertThat(singleUse.verify("header.payload", encoded)).isTrue();
+			assertThat(singleUse.verify("header.tampered", encoded)).isFalse();
+		}
+
+		@Test
+		@DisplayName("문자열 메서드만 구현한 AlgorithmService도 ByteBuffer, 스트리밍 서명 사용 가능")
+		void legacyAlgorithmService_success() throws Exception {
+			JwtAlgorithm.HmacAlgorithmService hmac = new JwtAlgorithm.HmacAlgorithmService(Algorithm.HS256,
+				HMAC256_SECRET_KEY);
+			JwtAlgorithm.AlgorithmService legacy = new JwtAlgorithm.AlgorithmService() {
+				@Override
+				public byte[] sign(String value) {
+					return hmac.sign(value);
+				}
+
+				@Override
+				public boolean verify(String data, String exprectedSignature) {
+					return hmac.verify(data, exprectedSignature);
+				}
+			};
+			byte[] signature = hmac.sign("header.payload");
+			String encoded = Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+
+			JwtAlgorithm.SignatureUpdater updater = legacy.updater();
+			updater.update(ByteBuffer.wrap("header.".getBytes(StandardCharsets.US_ASCII)));
+			updater.update(ByteBuffer.wrap("payload".getBytes(StandardCharsets.US_ASCII)));
+
+			assertThat(legacy.sign(ByteBuffer.wrap("header.payload".getBytes(StandardCharsets.US_ASCII))))
+				.isEqualTo(signature);
+			assertThat(legacy.verify(ByteBuffer.wrap("header.payload".getBytes(StandardCharsets.US_ASCII)),
+				ByteBuffer.wrap(encoded.getBytes(StandardCharsets.US_ASCII)))).isTrue();
+			assertThat(updater.sign()).isEqualTo(signature);
+			assertThat(legacy.maxSignatureLength()).isGreaterThanOrEqualTo(signature.length);
+		}
+
+		@Test
+		@DisplayName("HMAC 서명이 변조된 토큰 검증 실패")
+		void verifyTamperedHmacSignature_fail() throws Exception {
+			for (Algorithm algorithm : new Algorithm[] {Algorithm.HS256, Algorithm.HS384, Algorithm.HS512}) {
+				String token = JWT.builder()
+					.algorithm(algorithm)
+					.secretKey(HMAC256_SECRET_KEY)
+					.subject("subject")
+					.build();
+				char last = token.charAt(token.length() - 1);
+				String tampered = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+
+				assertThat(JWT.parser().signedKey(HMAC256_SECRET_KEY).payload(token).getSubject())
+					.isEqualTo("subject");
+				assertThatThrownBy(() -> {
+					JWT.parser().signedKey(HMAC256_SECRET_KEY)
+						.payload(tampered);
+				}).isInstanceOf(JwtException.class)
+					.extracting(e -> ((JwtException) e).getErrorCode())
+					.isEqualTo(JwtErrorCode.INVALID_TOKEN);
+			}
+		}
+	}
+
+	@Nested
+	@DisplayName("byte[], ByteBuffer 토큰 검증 테스트")
+	class JwtScannerTest {
+		@Test
+		@DisplayName("byte[] 구간에 담긴 토큰 검증")
+		void parseByteArraySlice_success() throws Exception {
+			String token = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.subject("subject")
+				.build();
+			byte[] request = ("Bearer " + token + "\r\n").getBytes(StandardCharsets.US_ASCII);
+
+			ParsedJwt parsedJwt = JWT.parser().signedKey(HMAC256_SECRET_KEY)
+				.parse(request, 7, token.length());
+
+			assertThat(parsedJwt.getPayload().getSubject()).isEqualTo("subject");
+			assertThat(parsedJwt.getSignatureSegment()).isEqualTo(token.substring(token.lastIndexOf('.') + 1));
+		}
+
+		@Test
+		@DisplayName("Direct ByteBuffer에 담긴 토큰 검증 후 버퍼 위치 유지")
+		void parseDirectByteBuffer_success() throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.ES256, JWT.KeySize.LOW);
+			String token = JWT.builder()
+				.algorithm(Algorithm.ES256)
+				.privateKey(keyPair.getPrivate())
+				.subject("subject")
+				.build();
+			ByteBuffer buffer = ByteBuffer.allocateDirect(token.length());
+			buffer.put(token.getBytes(StandardCharsets.US_ASCII)).flip();
+
+			ParsedJwt parsedJwt = JWT.parser().publicKey(keyPair.getPublic())
+				.parse(buffer);
+
+			assertThat(parsedJwt.getPayload().getSubject()).isEqualTo("subject");
+			assertThat(parsedJwt.getHeaderSegment()).isEqualTo(token.substring(0, token.indexOf('.')));
+			assertThat(buffer.position()).isZero();
+			assertThat(buffer.remaining()).isEqualTo(token.length());
+		}
+
+		@Test
+		@DisplayName("검증 후 호출자가 버퍼를 재사용해도 세그먼트 유지")
+		void reuseBufferAfterParse_success() throws Exception {
+			String token = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.subject("subject")
+				.build();
+			byte[] request = token.getBytes(StandardCharsets.US_ASCII);
+			ByteBuffer buffer = ByteBuffer.wrap(token.getBytes(StandardCharsets.US_ASCII));
+			JwtVerifier verifier = JWT.parser().signedKey(HMAC256_SECRET_KEY);
+
+			ParsedJwt fromArray = verifier.parse(request, 0, request.length);
+			ParsedJwt fromBuffer = verifier.parse(buffer);
+			Arrays.fill(request, (byte)'X');
+			Arrays.fill(buffer.array(), (byte)'X');
+
+			String[] segments = token.split("\\.");
+			for (ParsedJwt parsedJwt : List.of(fromArray, fromBuffer)) {
+				assertThat(parsedJwt.getHeaderSegment()).isEqualTo(segments[0]);
+				assertThat(parsedJwt.getPayloadSegment()).isEqualTo(segments[1]);
+				assertThat(parsedJwt.getSignatureSegment()).isEqualTo(segments[2]);
+			}
+		}
+
+		@Test
+		@DisplayName("구분자 개수가 잘못된 토큰 검증 실패")
+		void parseInvalidSeparator_fail() throws Exception {
+			assertThatThrownBy(() -> {
+				JWT.parser().signedKey(HMAC256_SECRET_KEY)
+					.parse("header.payload.signature.extra");
+			}).isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.INVALID_TOKEN);
+		}
+	}
+
+	@Nested
+	@DisplayName("검증 결과 캐시 테스트")
+	class JwtTokenCacheTest {
+		@Test
+		@DisplayName("같은 RS256 토큰 재검증 시 캐시 사용")
+		void verifyWithCache_hit() throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.RS256, JWT.KeySize.LOW);
+			JwtVerifier verifier = JWT.parser()
+				.cache(100, 1024 * 1024)
+				.verifier(keyPair.getPublic());
+			String token = JWT.builder()
+				.algorithm(Algorithm.RS256)
+				.privateKey(keyPair.getPrivate())
+				.subject("subject")
+				.expiration(ZonedDateTime.of(LocalDateTime.of(2099, 12, 31, 23, 59), ZoneId.of("Asia/Seoul")))
+				.build();
+
+			ParsedJwt first = verifier.parse(token);
+			ParsedJwt second = verifier.parse(token);
+
+			assertThat(second).isSameAs(first);
+			assertThat(verifier.getTokenCache().getMissCount()).isEqualTo(1);
+			assertThat(verifier.getTokenCache().getHitCount()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("HMAC 토큰은 캐시를 사용하지 않음")
+		void verifyHmacWithCache_bypass() throws Exception {
+			JwtVerifier verifier = JWT.parser()
+				.cache(100, 1024 * 1024)
+				.signedKey(HMAC256_SECRET_KEY);
+			String token = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.subject("subject")
+				.build();
+
+			verifier.parse(token);
+			verifier.parse(token);
+
+			assertThat(verifier.getTokenCache().size()).isZero();
+			assertThat(verifier.getTokenCache().getMissCount()).isZero();
+		}
+
+		@Test
+		@DisplayName("요청 버퍼를 재사용해도 캐시된 검증 결과 유지")
+		void verifyWithCacheAfterBufferReuse_hit() throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.ES256, JWT.KeySize.LOW);
+			JwtVerifier verifier = JWT.parser()
+				.cache(100, 1024 * 1024)
+				.verifier(keyPair.getPublic());
+			String token = JWT.builder()
+				.algorithm(Algorithm.ES256)
+				.privateKey(keyPair.getPrivate())
+				.subject("subject")
+				.build();
+			byte[] request = token.getBytes(StandardCharsets.US_ASCII);
+
+			verifier.parse(request, 0, request.length);
+			Arrays.fill(request, (byte)'X');
+			ParsedJwt cached = verifier.parse(token.getBytes(StandardCharsets.US_ASCII), 0, token.length());
+
+			assertThat(verifier.getTokenCache().getHitCount()).isEqualTo(1);
+			assertThat(cached.getPayloadSegment()).isEqualTo(token.split("\\.")[1]);
+			assertThat(cached.getPayload().getSubject()).isEqualTo("subject");
+		}
+
+		@Test
+		@DisplayName("캐시 항목 수는 전체 제한을 넘지 않음")
+		void cacheMaxEntries_success() throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.ES256, JWT.KeySize.LOW);
+			JwtVerifier verifier = JWT.parser()
+				.cache(4, 1024 * 1024)
+				.verifier(keyPair.getPublic());
+
+			for (int i = 0; i < 64; i++) {
+				verifier.parse(JWT.builder()
+					.algorithm(Algorithm.ES256)
+					.privateKey(keyPair.getPrivate())
+					.subject("subject-" + i)
+					.build());
+			}
+
+			assertThat(verifier.getTokenCache().size()).isBetween(1L, 4L);
+			assertThat(verifier.getTokenCache().getEvictionCount()).isGreaterThanOrEqualTo(60);
+		}
+
+		@Test
+		@DisplayName("캐시로 공유되는 클레임 Map 변경 불가")
+		void modifyCachedClaims_fail() throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.ES256, JWT.KeySize.LOW);
+			JwtVerifier verifier = JWT.parser()
+				.cache(100, 1024 * 1024)
+				.verifier(keyPair.getPublic());
+			String token = JWT.builder()
+				.algorithm(Algorithm.ES256)
+				.privateKey(keyPair.getPrivate())
+				.subject("subject")
+				.claim("roles", List.of("user"))
+				.build();
+
+			Map<String, Object> claims = verifier.parse(token).getPayload().getClaims();
+
+			assertThatThrownBy(() -> claims.put("subject", "admin"))
+				.isInstanceOf(UnsupportedOperationException.class);
+			assertThatThrownBy(() -> ((List<Object>)claims.get("roles")).add("admin"))
+				.isInstanceOf(UnsupportedOperationException.class);
+			assertThat(verifier.parse(token).getPayload().getSubject()).isEqualTo("subject");
+		}
+	}
+
+	@Nested
+	@DisplayName("일괄 검증 테스트")
+	class JwtBatchVerificationTest {
+		@Test
+		@DisplayName("일부 토큰이 유효하지 않아도 입력 순서대로 결과 반환")
+		void parseAll_partialFailure() throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.ES256, JWT.KeySize.LOW);
+			JwtVerifier verifier = JWT.parser().verifier(keyPair.getPublic());
+
+			List<String> tokens = new ArrayList<>();
+			for (int i = 0; i < 20; i++) {
+				tokens.add(JWT.builder()
+					.algorithm(Algorithm.ES256)
+					.privateKey(keyPair.getPrivate())
+					.subject("subject-" + i)
+					.build());
+			}
+			tokens.set(5, "invalid-token");
+
+			List<JwtVerifier.VerificationResult> results = verifier.parseAll(tokens);
+
+			assertThat(results).hasSize(20);
+			assertThat(results.get(5).isVerified()).isFalse();
+			assertThat(results.get(5).getException().getErrorCode()).isEqualTo(JwtErrorCode.INVALID_TOKEN);
+			assertThat(results.get(19).getParsedJwt().getPayload().getSubject()).isEqualTo("subject-19");
+			assertThat(results.stream().filter(JwtVerifier.VerificationResult::isVerified).count()).isEqualTo(19);
+		}
+
+		@Test
+		@DisplayName("지정한 Executor로 일괄 검증")
+		void parseAll_withExecutor() throws Exception {
+			ExecutorService executor = Executors.newFixedThreadPool(2);
+			try {
+				List<String> tokens = IntStream.range(0, 10)
+					.mapToObj(i -> JWT.builder()
+						.algorithm(Algorithm.HS256)
+						.secretKey(HMAC256_SECRET_KEY)
+						.subject("subject-" + i)
+						.build())
+					.collect(Collectors.toList());
+
+				List<JwtVerifier.VerificationResult> results = JWT.parser().signedKey(HMAC256_SECRET_KEY)
+					.parseAll(tokens, executor);
+
+				assertThat(results).allMatch(JwtVerifier.VerificationResult::isVerified);
+				assertThat(results.get(3).getToken()).isEqualTo(tokens.get(3));
+			} finally {
+				executor.shutdown();
+			}
+		}
+	}
+
+	@Nested
+	@DisplayName("JWT 발급 템플릿 테스트")
+	class JwtTemplateTest {
+		@Test
+		@DisplayName("고정 클레임과 변하는 클레임을 합쳐 JWT 발급")
+		void mintWithTemplate_success() throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.RS256, JWT.KeySize.LOW);
+			JwtTemplate template = JWT.builder()
+				.algorithm(Algorithm.RS256)
+				.privateKey(keyPair.getPrivate())
+				.issuer("홍길동")
+				.audience("service")
+				.template();
+			ZonedDateTime issuedAt = ZonedDateTime.of(LocalDateTime.of(2024, 1, 1, 0, 0), ZoneId.of("Asia/Seoul"));
+			ZonedDateTime expiration = ZonedDateTime.of(LocalDateTime.of(2099, 12, 31, 23, 59), ZoneId.of("Asia/Seoul"));
+
+			List<String> tokens = template.mintAll(List.of("user-1", "user-2"), issuedAt, expiration);
+
+			JwtVerifier verifier = JWT.parser().verifier(keyPair.getPublic());
+			Payload payload = verifier.payload(tokens.get(1));
+			assertThat(tokens).hasSize(2);
+			assertThat(payload.getIssuer()).isEqualTo("홍길동");
+			assertThat(payload.getAudience()).isEqualTo("service");
+			assertThat(payload.getSubject()).isEqualTo("user-2");
+			assertThat(payload.getExpiration(ZoneId.of("Asia/Seoul"))).isEqualTo(expiration);
+		}
+
+		@Test
+		@DisplayName("고정 클레임 없이 발급한 JWT는 빌더로 만든 JWT와 동일")
+		void mintWithoutStaticClaims_sameAsBuilder() throws Exception {
+			JwtTemplate template = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.template();
+
+			String token = template.mint(Map.of("subject", "subject"));
+
+			assertThat(token).isEqualTo(JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.subject("subject")
+				.build());
+		}
+
+		@Test
+		@DisplayName("템플릿의 고정 클레임을 다시 지정하면 발급 실패")
+		void mintWithDuplicatedClaim_fail() throws Exception {
+			JwtTemplate template = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.issuer("홍길동")
+				.template();
+
+			assertThatThrownBy(() -> template.mint(Map.of("issuer", "other")))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.INVALID_CLAIMS);
+		}
+	}
+
+	@Nested
+	@DisplayName("표준 Header 세그먼트 테스트")
+	class CanonicalHeaderTest {
+		@Test
+		@DisplayName("미리 만든 Header 세그먼트는 Header JSON 인코딩 결과와 동일")
+		void canonicalSegment_sameAsJson() throws Exception {
+			for (Algorithm algorithm : Algorithm.values()) {
+				String json = new Header(algorithm).toJson();
+
+				assertThat(Header.canonicalSegment(algorithm)).isEqualTo(
+					Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8)));
+			}
+		}
+
+		@Test
+		@DisplayName("표준 형식이 아닌 Header도 JSON 파싱으로 검증")
+		void parseNonCanonicalHeader_success() throws Exception {
+			Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+			String header = encoder.encodeToString("{\"typ\":\"JWT\",\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+			String payload = encoder.encodeToString("{\"subject\":\"subject\"}".getBytes(StandardCharsets.UTF_8));
+			byte[] signature = new JwtAlgorithm.HmacAlgorithmService(Algorithm.HS256, HMAC256_SECRET_KEY)
+				.sign(header + "." + payload);
+			String token = header + "." + payload + "." + encoder.encodeToString(signature);
+
+			ParsedJwt parsedJwt = JWT.parser().signedKey(HMAC256_SECRET_KEY).parse(token);
+
+			assertThat(parsedJwt.getAlgorithm()).isEqualTo(Algorithm.HS256);
+			assertThat(parsedJwt.getHeader().getTyp()).isEqualTo("JWT");
+			assertThat(parsedJwt.getPayload().getSubject()).isEqualTo("subject");
+		}
+	}
+
+	@Nested
+	@DisplayName("ByteBuffer, OutputStream 출력 테스트")
+	class JwtSerializationTest {
+		@Test
+		@DisplayName("ByteBuffer와 OutputStream에 기록한 JWT는 문자열 JWT와 동일")
+		void buildToByteBufferAndOutputStream_success() throws Exception {
+			JwtBuilder builder = JWT.builder()
+				.algorithm(Algorithm.HS512)
+				.secretKey(HMAC256_SECRET_KEY)
+				.issuer("홍길동")
+				.subject("subject");
+			String token = builder.build();
+
+			ByteBuffer buffer = ByteBuffer.allocate(1024);
+			int written = builder.build(buffer);
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			builder.build(outputStream);
+
+			assertThat(written).isEqualTo(token.length());
+			assertThat(new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII)).isEqualTo(token);
+			assertThat(outputStream.toString(StandardCharsets.US_ASCII)).isEqualTo(token);
+		}
+
+		@Test
+		@DisplayName("서명 길이가 가변적인 ES256 JWT 생성 후 검증")
+		void buildEs256_success() throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.ES256, JWT.KeySize.LOW);
+			JwtVerifier verifier = JWT.parser().verifier(keyPair.getPublic());
+
+			for (int i = 0; i < 20; i++) {
+				String token = JWT.builder()
+					.algorithm(Algorithm.ES256)
+					.privateKey(keyPair.getPrivate())
+					.subject("subject-" + i)
+					.build();
+
+				assertThat(verifier.payload(token).getSubject()).isEqualTo("subject-" + i);
+			}
+		}
+
+		@Test
+		@DisplayName("고정 클레임만 있는 템플릿으로 JWT 발급")
+		void mintWithStaticClaimsOnly_success() throws Exception {
+			JwtTemplate template = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.issuer("홍길동")
+				.template();
+
+			String token = template.mint(Map.of());
+
+			assertThat(JWT.parser().signedKey(HMAC256_SECRET_KEY).payload(token).getIssuer()).isEqualTo("홍길동");
+		}
+	}
+
+	@Nested
+	@DisplayName("Payload 지연 생성 테스트")
+	class LazyPayloadTest {
+		@Test
+		@DisplayName("등록 클레임과 중첩 클레임 조회")
+		void readRegisteredAndNestedClaims_success() throws Exception {
+			String token = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.subject("subject")
+				.audience("service")
+				.claim("roles", List.of("ADMIN", "USER"))
+				.claim("profile", Map.of("age", 20))
+				.expiration(ZonedDateTime.of(LocalDateTime.of(2099, 12, 31, 23, 59), ZoneId.of("Asia/Seoul")))
+				.build();
+
+			Payload payload = JWT.parser().signedKey(HMAC256_SECRET_KEY).payload(token);
+
+			assertThat(payload.getSubject()).isEqualTo("subject");
+			assertThat(payload.getAudience()).isEqualTo("service");
+			assertThat(payload.getClaim("roles", List.class)).containsExactly("ADMIN", "USER");
+			assertThat(payload.getClaim("profile", Map.class)).containsEntry("age", 20);
+			assertThat(payload.getClaims()).containsKeys("subject", "audience", "roles", "profile", "expiration");
+		}
+
+		@Test
+		@DisplayName("Payload JSON 형식이 잘못된 경우 검증 단계에서 실패")
+		void parseMalformedPayload_fail() throws Exception {
+			Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+			String header = Header.canonicalSegment(Algorithm.HS256);
+			String payload = encoder.encodeToString("{\"subject\":\"subject\",\"roles\":[1,2}".getBytes(StandardCharsets.UTF_8));
+			byte[] signature = new JwtAlgorithm.HmacAlgorithmService(Algorithm.HS256, HMAC256_SECRET_KEY)
+				.sign(header + "." + payload);
+			String token = header + "." + payload + "." + encoder.encodeToString(signature);
+
+			assertThatThrownBy(() -> {
+				JWT.parser().signedKey(HMAC256_SECRET_KEY)
+					.payload(token);
+			}).isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.PARSING_ERROR);
+		}
+	}
+
+	@Nested
+	@DisplayName("타입 바인딩 테스트")
+	class TypedClaimsTest {
+		@Test
+		@DisplayName("Payload를 record로 바인딩")
+		void bindPayloadToRecord_success() throws Exception {
+			String token = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.subject("subject")
+				.claim("age", 20)
+				.claim("roles", List.of("ADMIN", "USER"))
+				.claim("unknown", "ignored")
+				.expiration(ZonedDateTime.of(LocalDateTime.of(2099, 12, 31, 23, 59), ZoneId.of("Asia/Seoul")))
+				.build();
+
+			UserClaims claims = JWT.parser().signedKey(HMAC256_SECRET_KEY)
+				.payload(token, UserClaims.class);
+
+			assertThat(claims.subject()).isEqualTo("subject");
+			assertThat(claims.age()).isEqualTo(20L);
+			assertThat(claims.expiration()).isEqualTo(4102412340L);
+			assertThat(claims.roles()).containsExactly("ADMIN", "USER");
+		}
+
+		@Test
+		@DisplayName("Map으로 생성한 Payload를 record로 바인딩")
+		void bindMapPayloadToRecord_success() throws Exception {
+			Payload payload = new Payload(Map.of("subject", "subject", "age", 20));
+
+			UserClaims claims = payload.getClaims(UserClaims.class);
+
+			assertThat(claims.subject()).isEqualTo("subject");
+			assertThat(claims.age()).isEqualTo(20L);
+		}
+	}
+
+	@Nested
+	@DisplayName("시계 및 시계 오차 허용 테스트")
+	class JwtClockTest {
+		private final Instant expiration = Instant.parse("2030-01-01T00:00:00Z");
+
+		private String createToken() {
+			return JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.subject("subject")
+				.notBeforeAt(ZonedDateTime.ofInstant(expiration.minusSeconds(3600), ZoneOffset.UTC))
+				.expiration(ZonedDateTime.ofInstant(expiration, ZoneOffset.UTC))
+				.build();
+		}
+
+		@Test
+		@DisplayName("고정 시계 기준 유효기간 내 토큰 검증")
+		void verifyWithFixedClock_success() throws Exception {
+			Payload payload = JWT.parser()
+				.clock(JwtClock.fixed(expiration.minusSeconds(60)))
+				.signedKey(HMAC256_SECRET_KEY)
+				.payload(createToken());
+
+			assertThat(payload.getExpirationEpochSecond()).isEqualTo(expiration.getEpochSecond());
+			assertThat(payload.getNotBeforeAtEpochSecond()).isEqualTo(expiration.getEpochSecond() - 3600);
+			assertThat(payload.getIssuedAtEpochSecond()).isNull();
+		}
+
+		@Test
+		@DisplayName("고정 시계 기준 만료된 토큰 검증 실패")
+		void verifyExpiredWithFixedClock_fail() throws Exception {
+			assertThatThrownBy(() -> {
+				JWT.parser()
+					.clock(JwtClock.fixed(expiration.plusSeconds(1)))
+					.signedKey(HMAC256_SECRET_KEY)
+					.payload(createToken());
+			}).isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.EXPIRED_TOKEN);
+		}
+
+		@Test
+		@DisplayName("고정 시계 기준 사용 시작 전 토큰 검증 실패")
+		void verifyNotBeforeWithFixedClock_fail() throws Exception {
+			assertThatThrownBy(() -> {
+				JWT.parser()
+					.clock(JwtClock.of(Clock.fixed(expiration.minusSeconds(3601), ZoneOffset.UTC)))
+					.signedKey(HMAC256_SECRET_KEY)
+					.payload(createToken());
+			}).isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.NOT_BEFORE_TOKEN);
+		}
+
+		@Test
+		@DisplayName("시계 오차 허용 범위 내 만료, 사용 시작 전 토큰 검증")
+		void verifyWithLeeway_success() throws Exception {
+			String token = createToken();
+
+			assertThat(JWT.parser()
+				.clock(JwtClock.fixed(expiration.plusSeconds(30)))
+				.leeway(Duration.ofSeconds(30))
+				.signedKey(HMAC256_SECRET_KEY)
+				.payload(token)).isNotNull();
+			assertThat(JWT.parser()
+				.clock(JwtClock.fixed(expiration.minusSeconds(3630)))
+				.leeway(Duration.ofSeconds(30))
+				.signedKey(HMAC256_SECRET_KEY)
+				.payload(token)).isNotNull();
+		}
+
+		@Test
+		@DisplayName("음수 시계 오차 허용 범위 설정 실패")
+		void negativeLeeway_fail() throws Exception {
+			assertThatThrownBy(() -> JWT.parser().leeway(Duration.ofSeconds(-1)))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.INVALID_CONFIGURATION);
+		}
+
+		@Test
+		@DisplayName("주기적으로 갱신되는 시계 사용")
+		void coarseClock_success() throws Exception {
+			try (JwtClock.CoarseClock clock = JwtClock.coarse(Duration.ofMillis(10))) {
+				long now = System.currentTimeMillis() / 1000;
+
+				assertThat(clock.currentEpochSecond()).isBetween(now - 1, now + 1);
+				assertThat(JWT.parser()
+					.clock(clock)
+					.signedKey(HMAC256_SECRET_KEY)
+					.payload(JWT.builder()
+						.algorithm(Algorithm.HS256)
+						.secretKey(HMAC256_SECRET_KEY)
+						.subject("subject")
+						.build())
+					.getSubject()).isEqualTo("subject");
+			}
+		}
+	}
+
+	@Nested
+	@DisplayName("키 목록(kid) 검증 테스트")
+	class JwtKeyRingTest {
+		private String createToken(Algorithm algorithm, PrivateKey privateKey, String keyId) {
+			return JWT.builder()
+				.algorithm(algorithm)
+				.privateKey(privateKey)
+				.keyId(keyId)
+				.subject("subject")
+				.build();
+		}
+
+		@Test
+		@DisplayName("kid로 검증 키를 조회하여 교체 전후 토큰 검증")
+		void verifyWithKeyRing_success() throws Exception {
+			KeyPair oldKeyPair = JWT.generateKeyPair(Algorithm.RS256, JWT.KeySize.LOW);
+			KeyPair newKeyPair = JWT.generateKeyPair(Algorithm.ES256, JWT.KeySize.LOW);
+			JwtKeyRing keyRing = new JwtKeyRing()
+				.add("key-1", Algorithm.RS256, oldKeyPair.getPublic())
+				.add("key-2", Algorithm.ES256, newKeyPair.getPublic());
+			JwtVerifier verifier = JWT.parser().keyRing(keyRing);
+
+			ParsedJwt oldToken = verifier.parse(createToken(Algorithm.RS256, oldKeyPair.getPrivate(), "key-1"));
+			ParsedJwt newToken = verifier.parse(createToken(Algorithm.ES256, newKeyPair.getPrivate(), "key-2"));
+
+			assertThat(oldToken.getHeader().getKid()).isEqualTo("key-1");
+			assertThat(newToken.getHeader().getKid()).isEqualTo("key-2");
+			assertThat(newToken.getPayload().getSubject()).isEqualTo("subject");
+		}
+
+		@Test
+		@DisplayName("kid가 없는 토큰은 표준 Header를 그대로 사용")
+		void headerWithoutKid_success() throws Exception {
+			String token = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.subject("subject")
+				.build();
+
+			assertThat(token).startsWith(Header.canonicalSegment(Algorithm.HS256) + ".");
+		}
+
+		@Test
+		@DisplayName("폐기된 kid의 토큰 검증 실패(캐싱된 검증 결과도 사용하지 않음)")
+		void verifyRetiredKey_fail() throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.RS256, JWT.KeySize.LOW);
+			JwtKeyRing keyRing = new JwtKeyRing().add("key-1", Algorithm.RS256, keyPair.getPublic());
+			JwtVerifier verifier = JWT.parser().cache(100, 1024 * 1024).keyRing(keyRing);
+			String token = createToken(Algorithm.RS256, keyPair.getPrivate(), "key-1");
+			verifier.parse(token);
+
+			assertThat(keyRing.retire("key-1")).isTrue();
+			assertThatThrownBy(() -> verifier.parse(token))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.UNKNOWN_KEY_ID);
+		}
+
+		@Test
+		@DisplayName("kid에 등록된 알고리즘과 다른 알고리즘의 토큰 검증 실패")
+		void verifyAlgorithmMismatch_fail() throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.RS256, JWT.KeySize.LOW);
+			JwtKeyRing keyRing = new JwtKeyRing().add("key-1", Algorithm.RS256, keyPair.getPublic());
+			String token = createToken(Algorithm.PS256, keyPair.getPrivate(), "key-1");
+
+			assertThatThrownBy(() -> JWT.parser().keyRing(keyRing).parse(token))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.UNSUPPORTED_ALGORITHM);
+		}
+	}
+
+	@Nested
+	@DisplayName("비동기 검증 테스트")
+	class JwtAsyncVerifierTest {
+		private String createToken(String subject) {
+			return JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.subject(subject)
+				.build();
+		}
+
+		@Test
+		@DisplayName("CompletableFuture로 Payload 비동기 검증")
+		void verifyAsync_success() throws Exception {
+			JwtAsyncVerifier asyncVerifier = JWT.parser().signedKey(HMAC256_SECRET_KEY).async();
+
+			Payload payload = asyncVerifier.payload(createToken("subject")).get();
+
+			assertThat(payload.getSubject()).isEqualTo("subject");
+			assertThat(asyncVerifier.getPendingCount()).isZero();
+		}
+
+		@Test
+		@DisplayName("기본 Executor는 스레드를 재사용하는 ForkJoinPool 공용 풀")
+		void defaultExecutorIsCommonPool_success() throws Exception {
+			JwtAsyncVerifier asyncVerifier = JWT.parser().signedKey(HMAC256_SECRET_KEY).async();
+
+			assertThat(asyncVerifier.getExecutor()).isSameAs(ForkJoinPool.commonPool());
+		}
+
+		@Test
+		@DisplayName("검증 실패 시 JwtException으로 완료")
+		void verifyAsync_fail() throws Exception {
+			JwtAsyncVerifier asyncVerifier = JWT.parser().signedKey(HMAC256_SECRET_KEY).async();
+
+			assertThatThrownBy(() -> asyncVerifier.payload("invalid.token").join())
+				.hasCauseInstanceOf(JwtException.class);
+		}
+
+		@Test
+		@DisplayName("동시 처리 한도를 넘는 요청은 즉시 실패")
+		void verifyAsyncOverLimit_fail() throws Exception {
+			List<Runnable> queued = new ArrayList<>();
+			JwtAsyncVerifier asyncVerifier = JWT.parser().signedKey(HMAC256_SECRET_KEY).async(queued::add, 1);
+			String token = createToken("subject");
+
+			CompletableFuture<ParsedJwt> first = asyncVerifier.parse(token);
+			CompletableFuture<ParsedJwt> second = asyncVerifier.parse(token);
+
+			assertThat(second).isCompletedExceptionally();
+			assertThatThrownBy(second::join)
+				.hasCauseInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e.getCause()).getErrorCode())
+				.isEqualTo(JwtErrorCode.TOO_MANY_PENDING_VERIFICATIONS);
+
+			queued.forEach(Runnable::run);
+			assertThat(first.join().getPayload().getSubject()).isEqualTo("subject");
+			assertThat(asyncVerifier.getPendingCount()).isZero();
+		}
+
+		@Test
+		@DisplayName("Flow Processor로 토큰 스트리밍 검증")
+		void verifyStream_success() throws Exception {
+			JwtAsyncVerifier asyncVerifier = JWT.parser().signedKey(HMAC256_SECRET_KEY).async();
+			List<JwtVerifier.VerificationResult> results = new CopyOnWriteArrayList<>();
+
+			try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>()) {
+				JwtAsyncVerifier.VerificationProcessor processor = asyncVerifier.processor();
+				CompletableFuture<Void> completed = processor.consume(results::add);
+				publisher.subscribe(processor);
+				IntStream.range(0, 100).forEach(i -> publisher.submit(createToken("subject-" + i)));
+				publisher.submit("invalid.token");
+				publisher.close();
+
+				completed.get(10, TimeUnit.SECONDS);
+			}
+
+			assertThat(results).hasSize(101);
+			assertThat(results).filteredOn(JwtVerifier.VerificationResult::isVerified).hasSize(100);
+		}
+
+		@Test
+		@DisplayName("하위 버퍼보다 많은 토큰도 느린 구독자에게 누락 없이 전달")
+		void verifyStreamSlowSubscriber_success() throws Exception {
+			JwtAsyncVerifier asyncVerifier = JWT.parser().signedKey(HMAC256_SECRET_KEY).async();
+			List<JwtVerifier.VerificationResult> results = new CopyOnWriteArrayList<>();
+			String token = createToken("subject");
+
+			try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>()) {
+				JwtAsyncVerifier.VerificationProcessor processor = asyncVerifier.processor();
+				CompletableFuture<Void> completed = processor.consume(result -> {
+					if (results.size() < 5) {
+						LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(20));
+					}
+					results.add(result);
+				});
+				publisher.subscribe(processor);
+				IntStream.range(0, processor.getMaxBufferCapacity() * 3).forEach(i -> publisher.submit(token));
+				publisher.close();
+
+				completed.get(10, TimeUnit.SECONDS);
+				assertThat(results).hasSize(processor.getMaxBufferCapacity() * 3)
+					.allMatch(JwtVerifier.VerificationResult::isVerified);
+			}
+		}
+
+		@Test
+		@DisplayName("Executor가 검증 작업을 거부하면 실패 결과로 전달")
+		void verifyStreamRejected_fail() throws Exception {
+			// 결과 전달(SubmissionPublisher의 ForkJoinTask)은 실행하고 검증 작업만 거부
+			Executor executor = task -> {
+				if (!(task instanceof ForkJoinTask)) {
+					throw new RejectedExecutionException("rejected");
+				}
+				ForkJoinPool.commonPool().execute(task);
+			};
+			JwtAsyncVerifier asyncVerifier = JWT.parser().signedKey(HMAC256_SECRET_KEY).async(executor, 4);
+			List<JwtVerifier.VerificationResult> results = new CopyOnWriteArrayList<>();
+
+			try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>()) {
+				JwtAsyncVerifier.VerificationProcessor processor = asyncVerifier.processor();
+				CompletableFuture<Void> completed = processor.consume(results::add);
+				publisher.subscribe(processor);
+				IntStream.range(0, 10).forEach(i -> publisher.submit(createToken("subject-" + i)));
+				publisher.close();
+
+				completed.get(10, TimeUnit.SECONDS);
+			}
+
+			assertThat(results).hasSize(10)
+				.allMatch(result -> result.getException().getErrorCode() == JwtErrorCode.TOO_MANY_PENDING_VERIFICATIONS);
+		}
+	}
+
+	@Nested
+	@DisplayName("지표 수집 테스트")
+	class JwtMetricsTest {
+		@Test
+		@DisplayName("생성, 검증 단계별 처리 시간과 토큰 크기 수집")
+		void recordPhases_success() throws Exception {
+			JwtMetrics.Recorder metrics = new JwtMetrics.Recorder();
+			String token = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.metrics(metrics)
+				.subject("subject")
+				.build();
+
+			JWT.parser().metrics(metrics).signedKey(HMAC256_SECRET_KEY).parse(token);
+
+			assertThat(metrics.getBuiltCount(Algorithm.HS256)).isEqualTo(1);
+			assertThat(metrics.getVerifiedCount(Algorithm.HS256)).isEqualTo(1);
+			assertThat(metrics.getTokenBytes()).isEqualTo(token.length() * 2L);
+			assertThat(metrics.getPhaseCount(JwtMetrics.Phase.SCAN)).isEqualTo(1);
+			assertThat(metrics.getPhaseCount(JwtMetrics.Phase.SIGNATURE)).isEqualTo(2);
+			assertThat(metrics.getPhaseCount(JwtMetrics.Phase.CLAIMS)).isEqualTo(1);
+			assertThat(metrics.getPhaseNanos(JwtMetrics.Phase.SIGNATURE)).isPositive();
+		}
+
+		@Test
+		@DisplayName("검증 실패 시 오류 코드별 횟수 수집")
+		void recordErrors_success() throws Exception {
+			JwtMetrics.Recorder metrics = new JwtMetrics.Recorder();
+			JwtVerifier verifier = JWT.parser().metrics(metrics).signedKey(HMAC256_SECRET_KEY);
+			String token = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.expiration(ZonedDateTime.of(LocalDateTime.of(2000, 1, 1, 0, 0), ZoneId.of("Asia/Seoul")))
+				.build();
+
+			assertThatThrownBy(() -> verifier.parse("invalid.token")).isInstanceOf(JwtException.class);
+			assertThatThrownBy(() -> verifier.parse(token)).isInstanceOf(JwtException.class);
+
+			assertThat(metrics.getErrorCount(JwtErrorCode.INVALID_TOKEN)).isEqualTo(1);
+			assertThat(metrics.getErrorCount(JwtErrorCode.EXPIRED_TOKEN)).isEqualTo(1);
+			assertThat(metrics.getVerifiedCount(Algorithm.HS256)).isZero();
+		}
+
+		@Test
+		@DisplayName("템플릿 발급 지표 수집")
+		void recordTemplate_success() throws Exception {
+			JwtMetrics.Recorder metrics = new JwtMetrics.Recorder();
+			JwtTemplate template = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.metrics(metrics)
+				.issuer("issuer")
+				.template();
+
+			template.mint("subject", null, null);
+
+			assertThat(metrics.getBuiltCount(Algorithm.HS256)).isEqualTo(1);
+			assertThat(metrics.getPhaseCount(JwtMetrics.Phase.PAYLOAD)).isEqualTo(1);
+			assertThat(metrics.getPhaseCount(JwtMetrics.Phase.ENCODE)).isEqualTo(1);
+		}
+	}
+
+	@Nested
+	@DisplayName("토큰 폐기 테스트")
+	class JwtRevocationTest {
+		@Test
+		@DisplayName("폐기된 jwtId의 토큰 검증 실패(캐싱된 검증 결과 포함)")
+		void verifyRevokedToken_fail() throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.RS256, JWT.KeySize.LOW);
+			JwtRevocationList revocationList = new JwtRevocationList(1000, 0.01);
+			JwtVerifier verifier = JWT.parser()
+				.cache(100, 1024 * 1024)
+				.revocationChecker(revocationList)
+				.verifier(keyPair.getPublic());
+			String token = JWT.builder()
+				.algorithm(Algorithm.RS256)
+				.privateKey(keyPair.getPrivate())
+				.jwtId()
+				.subject("subject")
+				.build();
+
+			Payload payload = verifier.payload(token);
+			assertThat(payload.getJwtId()).isNotBlank();
+
+			revocationList.revoke(payload);
+			assertThatThrownBy(() -> verifier.parse(token))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.REVOKED_TOKEN);
+		}
+
+		@Test
+		@DisplayName("폐기 목록 조회 및 만료 항목 정리")
+		void purgeExpired_success() throws Exception {
+			Instant now = Instant.parse("2030-01-01T00:00:00Z");
+			JwtRevocationList revocationList = new JwtRevocationList(100, 0.01, JwtClock.fixed(now));
+			revocationList.revoke("expired", now.getEpochSecond() - 1);
+			revocationList.revoke("active", now.getEpochSecond() + 60);
+
+			assertThat(revocationList.isRevoked("expired")).isTrue();
+			assertThat(revocationList.isRevoked("active")).isTrue();
+			assertThat(revocationList.isRevoked("unknown")).isFalse();
+
+			assertThat(revocationList.purgeExpired()).isEqualTo(1);
+			assertThat(revocationList.size()).isEqualTo(1);
+			assertThat(revocationList.isRevoked("expired")).isFalse();
+			assertThat(revocationList.isRevoked("active")).isTrue();
+		}
+
+		@Test
+		@DisplayName("Bloom 필터 오탐이 있어도 정확한 목록으로 폐기 여부 판별")
+		void bloomFilterWithExactSet_success() throws Exception {
+			JwtRevocationList revocationList = new JwtRevocationList(10000, 0.01);
+			IntStream.range(0, 10000).forEach(i -> revocationList.revoke("revoked-" + i, Long.MAX_VALUE));
+
+			assertThat(IntStream.range(0, 10000).allMatch(i -> revocationList.isRevoked("revoked-" + i))).isTrue();
+			assertThat(IntStream.range(0, 10000).noneMatch(i -> revocationList.isRevoked("active-" + i))).isTrue();
+		}
+	}
+
+	@Nested
+	@DisplayName("서명 검증 전 사전 검사 테스트")
+	class JwtGateTest {
+		private String createToken() {
+			return JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.subject("subject")
+				.build();
+		}
+
+		@Test
+		@DisplayName("최대 길이를 넘는 토큰 거부")
+		void rejectLongToken_fail() throws Exception {
+			assertThatThrownBy(() -> JWT.parser().maxTokenLength(32).signedKey(HMAC256_SECRET_KEY).parse(createToken()))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.INVALID_TOKEN);
+		}
+
+		@Test
+		@DisplayName("Base64url 이외의 문자가 포함된 토큰 거부")
+		void rejectNonBase64UrlToken_fail() throws Exception {
+			String token = createToken();
+			String tampered = token.substring(0, token.length() - 2) + "+/";
+
+			assertThatThrownBy(() -> JWT.parser().signedKey(HMAC256_SECRET_KEY).parse(tampered))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.MALFORMED_TOKEN);
+		}
+
+		@Test
+		@DisplayName("허용하지 않은 알고리즘의 토큰 거부")
+		void rejectDisallowedAlgorithm_fail() throws Exception {
+			assertThatThrownBy(() -> JWT.parser()
+				.algorithms(Algorithm.RS256)
+				.signedKey(HMAC256_SECRET_KEY)
+				.parse(createToken()))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.UNSUPPORTED_ALGORITHM);
+		}
+
+		@Test
+		@DisplayName("알 수 없는 alg의 토큰 거부")
+		void rejectUnknownAlgorithm_fail() throws Exception {
+			Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+			String header = encoder.encodeToString("{\"alg\":\"none\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+			String payload = encoder.encodeToString("{\"subject\":\"subject\"}".getBytes(StandardCharsets.UTF_8));
+
+			assertThatThrownBy(() -> JWT.parser().signedKey(HMAC256_SECRET_KEY).parse(header + "." + payload + ".c2ln"))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.UNSUPPORTED_ALGORITHM);
+		}
+
+		@Test
+		@DisplayName("비표준 Header는 JSON 파싱 전에 alg로 거부")
+		void rejectNonCanonicalHeaderBeforeParsing_fail() throws Exception {
+			Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+			// 중첩 객체의 alg는 무시하고, 최상위 alg를 검사한 뒤에는 JSON 오류에 도달하지 않음
+			String header = encoder.encodeToString("{\"kid\":{\"alg\":\"HS256\"},\"alg\":\"none\",]"
+				.getBytes(StandardCharsets.UTF_8));
+			String payload = encoder.encodeToString("{\"subject\":\"subject\"}".getBytes(StandardCharsets.UTF_8));
+
+			assertThatThrownBy(() -> JWT.parser().signedKey(HMAC256_SECRET_KEY).parse(header + "." + payload + ".c2ln"))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.UNSUPPORTED_ALGORITHM);
+		}
+
+		@Test
+		@DisplayName("alg가 중복된 Header 거부")
+		void rejectDuplicatedAlgorithm_fail() throws Exception {
+			Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+			String header = encoder.encodeToString("{\"alg\":\"HS256\",\"kid\":\"key\",\"alg\":\"HS512\"}"
+				.getBytes(StandardCharsets.UTF_8));
+			String payload = encoder.encodeToString("{\"subject\":\"subject\"}".getBytes(StandardCharsets.UTF_8));
+
+			assertThatThrownBy(() -> JWT.parser().signedKey(HMAC256_SECRET_KEY).parse(header + "." + payload + ".c2ln"))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.MALFORMED_TOKEN);
+		}
+
+		@Test
+		@DisplayName("zip이 있는 CBOR Header도 파싱 전에 허용 알고리즘 검사")
+		void rejectDisallowedAlgorithmCborHeader_fail() throws Exception {
+			String token = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.encoding(JWT.Encoding.CBOR)
+				.compress(0)
+				.subject("subject")
+				.build();
+
+			assertThat(JWT.parser().signedKey(HMAC256_SECRET_KEY).parse(token).getPayload().getSubject())
+				.isEqualTo("subject");
+			assertThatThrownBy(() -> JWT.parser()
+				.algorithms(Algorithm.HS512)
+				.signedKey(HMAC256_SECRET_KEY)
+				.parse(token))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.UNSUPPORTED_ALGORITHM);
+		}
+	}
+
+	@Nested
+	@DisplayName("EdDSA 알고리즘 테스트")
+	class EdDsaTest {
+		@Test
+		@DisplayName("Ed25519 키로 JWT 생성 및 검증")
+		void createAndVerifyWithEd25519_success() throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.EdDSA, JWT.KeySize.LOW);
+			String token = JWT.builder()
+				.algorithm(Algorithm.EdDSA)
+				.privateKey(keyPair.getPrivate())
+				.subject("subject")
+				.build();
+
+			ParsedJwt parsedJwt = JWT.parser().publicKey(keyPair.getPublic()).parse(token);
+
+			assertThat(keyPair.getPublic().getAlgorithm()).isIn("EdDSA", "Ed25519");
+			assertThat(parsedJwt.getAlgorithm()).isEqualTo(Algorithm.EdDSA);
+			assertThat(parsedJwt.getHeader().getAlg()).isEqualTo("EdDSA");
+			assertThat(parsedJwt.getPayload().getSubject()).isEqualTo("subject");
+			// Ed25519 서명 64바이트 -> Base64url 86자
+			assertThat(parsedJwt.getSignatureSegment()).hasSize(86);
+		}
+
+		@Test
+		@DisplayName("Ed448 키로 JWT 생성 및 Base64 인코딩된 공개키로 검증")
+		void createAndVerifyWithEd448_success() throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.EdDSA, JWT.KeySize.HIGH);
+			String token = JWT.builder()
+				.algorithm(Algorithm.EdDSA)
+				.privateKey(keyPair.getPrivate())
+				.subject("subject")
+				.build();
+			String encodedPublicKey = Base64.getUrlEncoder().encodeToString(keyPair.getPublic().getEncoded());
+
+			Payload payload = JWT.parser().signedKey(encodedPublicKey).payload(token);
+
+			assertThat(payload.getSubject()).isEqualTo("subject");
+		}
+
+		@Test
+		@DisplayName("다른 키로 서명된 EdDSA 토큰 검증 실패")
+		void verifyWithOtherKey_fail() throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.EdDSA, JWT.KeySize.LOW);
+			KeyPair otherKeyPair = JWT.generateKeyPair(Algorithm.EdDSA, JWT.KeySize.LOW);
+			String token = JWT.builder()
+				.algorithm(Algorithm.EdDSA)
+				.privateKey(keyPair.getPrivate())
+				.subject("subject")
+				.build();
+
+			assertThatThrownBy(() -> JWT.parser().publicKey(otherKeyPair.getPublic()).parse(token))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.INVALID_TOKEN);
+		}
+	}
+
+	@Nested
+	@DisplayName("키 쌍 사전 생성 풀 테스트")
+	class JwtKeyPairPoolTest {
+		@Test
+		@DisplayName("미리 생성된 키 쌍 조회 후 백그라운드에서 다시 채움")
+		void acquirePreparedKeyPair_success() throws Exception {
+			try (JwtKeyPairPool pool = new JwtKeyPairPool(2, 2).prepare(Algorithm.ES256, JWT.KeySize.LOW)) {
+				awaitAvailable(pool, Algorithm.ES256, 2);
+
+				KeyPair keyPair = pool.acquire(Algorithm.ES256, JWT.KeySize.LOW);
+				String token = JWT.builder()
+					.algorithm(Algorithm.ES256)
+					.privateKey(keyPair.getPrivate())
+					.subject("subject")
+					.build();
+
+				assertThat(JWT.parser().publicKey(keyPair.getPublic()).payload(token).getSubject()).isEqualTo("subject");
+				awaitAvailable(pool, Algorithm.ES256, 2);
+				assertThat(pool.available(Algorithm.ES256, JWT.KeySize.LOW)).isEqualTo(2);
+			}
+		}
+
+		@Test
+		@DisplayName("같은 키 종류의 알고리즘은 풀을 공유")
+		void sharePoolBetweenAlgorithms_success() throws Exception {
+			try (JwtKeyPairPool pool = new JwtKeyPairPool(1, 1).prepare(Algorithm.RS256, JWT.KeySize.LOW)) {
+				awaitAvailable(pool, Algorithm.RS256, 1);
+
+				assertThat(pool.available(Algorithm.PS256, JWT.KeySize.LOW)).isEqualTo(1);
+				assertThat(pool.available(Algorithm.EdDSA, JWT.KeySize.LOW)).isZero();
+				assertThat(pool.acquire(Algorithm.PS256, JWT.KeySize.LOW).getPrivate().getAlgorithm()).isEqualTo("RSA");
+			}
+		}
+
+		@Test
+		@DisplayName("HMAC 알고리즘 키 쌍 조회 실패")
+		void acquireHmacKeyPair_fail() throws Exception {
+			try (JwtKeyPairPool pool = new JwtKeyPairPool(1, 1)) {
+				assertThatThrownBy(() -> pool.acquire(Algorithm.HS256, JWT.KeySize.LOW))
+					.isInstanceOf(JwtException.class)
+					.extracting(e -> ((JwtException) e).getErrorCode())
+					.isEqualTo(JwtErrorCode.UNSUPPORTED_ALGORITHM);
+			}
+		}
+
+		private void awaitAvailable(JwtKeyPairPool pool, Algorithm algorithm, int count) throws InterruptedException {
+			long deadline = System.currentTimeMillis() + 10_000;
+			while (pool.available(algorithm, JWT.KeySize.LOW) < count && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+		}
+	}
+
+	@Nested
+	@DisplayName("CBOR 인코딩 테스트")
+	class CborEncodingTest {
+		@Test
+		@DisplayName("CBOR 인코딩으로 JWT 생성 및 검증")
+		void createAndVerifyWithCbor_success() throws Exception {
+			ZonedDateTime expiration = ZonedDateTime.of(LocalDateTime.of(2099, 12, 31, 23, 59), ZoneId.of("Asia/Seoul"));
+			String token = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.encoding(JWT.Encoding.CBOR)
+				.issuer("홍길동")
+				.subject("subject")
+				.expiration(expiration)
+				.jwtId("token-1")
+				.claim("role", "admin")
+				.build();
+
+			ParsedJwt parsedJwt = JWT.parser().signedKey(HMAC256_SECRET_KEY).parse(token);
+
+			Payload payload = parsedJwt.getPayload();
+			assertThat(parsedJwt.getAlgorithm()).isEqualTo(Algorithm.HS256);
+			assertThat(payload.getIssuer()).isEqualTo("홍길동");
+			assertThat(payload.getSubject()).isEqualTo("subject");
+			assertThat(payload.getExpiration(ZoneId.of("Asia/Seoul"))).isEqualTo(expiration);
+			assertThat(payload.getJwtId()).isEqualTo("token-1");
+			assertThat(payload.getClaims().get("role")).isEqualTo("admin");
+		}
+
+		@Test
+		@DisplayName("숫자 문자열 클레임 키는 등록 클레임으로 해석되지 않음")
+		void numericTextClaimKey_success() throws Exception {
+			String token = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.encoding(JWT.Encoding.CBOR)
+				.subject("subject")
+				.claim("4", 1L)
+				.claim("2", "custom")
+				.build();
+
+			Payload payload = JWT.parser().signedKey(HMAC256_SECRET_KEY).parse(token).getPayload();
+
+			assertThat(payload.getSubject()).isEqualTo("subject");
+			assertThat(payload.getExpiration(ZoneId.of("Asia/Seoul"))).isNull();
+			assertThat(payload.getClaims()).containsEntry("4", 1).containsEntry("2", "custom");
+		}
+
+		@Test
+		@DisplayName("값이 null인 고정 클레임이 있는 CBOR 템플릿으로 JWT 발급")
+		void mintWithNullStaticClaimCbor_success() throws Exception {
+			JwtTemplate template = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.encoding(JWT.Encoding.CBOR)
+				.issuer(null)
+				.audience("service")
+				.template();
+
+			String token = template.mint(Map.of("subject", "user-1"));
+
+			Payload payload = JWT.parser().signedKey(HMAC256_SECRET_KEY).parse(token).getPayload();
+			assertThat(payload.getIssuer()).isNull();
+			assertThat(payload.getAudience()).isEqualTo("service");
+			assertThat(payload.getSubject()).isEqualTo("user-1");
+		}
+
+		@Test
+		@DisplayName("등록 클레임은 CWT 정수 키로 기록되어 JSON보다 토큰이 짧음")
+		void cborTokenIsSmallerThanJson_success() throws Exception {
+			ZonedDateTime expiration = ZonedDateTime.of(LocalDateTime.of(2099, 12, 31, 23, 59), ZoneId.of("Asia/Seoul"));
+			String json = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.issuer("issuer")
+				.subject("subject")
+				.expiration(expiration)
+				.build();
+			String cbor = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.encoding(JWT.Encoding.CBOR)
+				.issuer("issuer")
+				.subject("subject")
+				.expiration(expiration)
+				.build();
+
+			byte[] header = Base64.getUrlDecoder().decode(cbor.substring(0, cbor.indexOf('.')));
+			byte[] payload = Base64.getUrlDecoder().decode(cbor.split("\\.")[1]);
+			assertThat(cbor.length()).isLessThan(json.length());
+			// {1: 5(HS256)}
+			assertThat(header).containsExactly(0xa1, 0x01, 0x05);
+			// {1: "issuer", ...} 형태의 3개 항목 맵
+			assertThat(payload[0] & 0xff).isEqualTo(0xa3);
+			assertThat(new String(payload, StandardCharsets.UTF_8)).doesNotContain("issuer\"", "expiration");
+		}
+
+		@Test
+		@DisplayName("kid가 있는 CBOR Header로 키 목록 검증")
+		void verifyCborHeaderWithKeyId_success() throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.ES256, JWT.KeySize.LOW);
+			JwtKeyRing keyRing = new JwtKeyRing().add("key-1", Algorithm.ES256, keyPair.getPublic());
+			String token = JWT.builder()
+				.algorithm(Algorithm.ES256)
+				.privateKey(keyPair.getPrivate())
+				.keyId("key-1")
+				.encoding(JWT.Encoding.CBOR)
+				.subject("subject")
+				.build();
+
+			ParsedJwt parsedJwt = JWT.parser().keyRing(keyRing).parse(token);
+
+			assertThat(parsedJwt.getHeader().getKid()).isEqualTo("key-1");
+			assertThat(parsedJwt.getAlgorithm()).isEqualTo(Algorithm.ES256);
+			assertThat(parsedJwt.getPayload().getSubject()).isEqualTo("subject");
+		}
+
+		@Test
+		@DisplayName("CBOR 템플릿으로 발급한 JWT 검증")
+		void mintWithCborTemplate_success() throws Exception {
+			JwtTemplate template = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.encoding(JWT.Encoding.CBOR)
+				.issuer("홍길동")
+				.audience("service")
+				.template();
+
+			String token = template.mint(Map.of("subject", "user-1", "role", "admin"));
+
+			Payload payload = JWT.parser().signedKey(HMAC256_SECRET_KEY).payload(token);
+			assertThat(payload.getIssuer()).isEqualTo("홍길동");
+			assertThat(payload.getAudience()).isEqualTo("service");
+			assertThat(payload.getSubject()).isEqualTo("user-1");
+			assertThat(payload.getClaims().get("role")).isEqualTo("admin");
+		}
+
+		@Test
+		@DisplayName("CBOR Header의 알 수 없는 알고리즘 식별자 검증 실패")
+		void verifyUnknownCoseAlgorithm_fail() throws Exception {
+			String header = Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[] {(byte)0xa1, 0x01, 0x18, 0x64});
+			String token = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.encoding(JWT.Encoding.CBOR)
+				.subject("subject")
+				.build();
+			String forged = header + token.substring(token.indexOf('.'));
+
+			assertThatThrownBy(() -> JWT.parser().signedKey(HMAC256_SECRET_KEY).parse(forged))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.UNSUPPORTED_ALGORITHM);
+		}
+	}
+
+	@Nested
+	@DisplayName("Payload 압축 테스트")
+	class CompressionTest {
+		private List<String> permissions() {
+			return IntStream.range(0, 200).mapToObj(i -> "resource-" + i + ":read").collect(Collectors.toList());
+		}
+
+		@Test
+		@DisplayName("최소 길이 이상인 Payload를 압축하여 JWT 생성 및 검증")
+		void createAndVerifyCompressedToken_success() throws Exception {
+			String plain = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.subject("subject")
+				.claim("permissions", permissions())
+				.build();
+			String compressed = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.compress(256)
+				.subject("subject")
+				.claim("permissions", permissions())
+				.build();
+
+			ParsedJwt parsedJwt = JWT.parser().signedKey(HMAC256_SECRET_KEY).parse(compressed);
+
+			assertThat(compressed.length()).isLessThan(plain.length() / 4);
+			assertThat(parsedJwt.getHeader().getZip()).isEqualTo("DEF");
+			assertThat(parsedJwt.getPayload().getSubject()).isEqualTo("subject");
+			assertThat(parsedJwt.getPayload().getClaim("permissions", List.class)).isEqualTo(permissions());
+		}
+
+		@Test
+		@DisplayName("최소 길이 미만인 Payload는 압축하지 않음")
+		void smallPayloadIsNotCompressed_success() throws Exception {
+			String token = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.compress(256)
+				.subject("subject")
+				.build();
+
+			ParsedJwt parsedJwt = JWT.parser().signedKey(HMAC256_SECRET_KEY).parse(token);
+
+			assertThat(parsedJwt.getHeaderSegment()).isEqualTo(Header.canonicalSegment(Algorithm.HS256));
+			assertThat(parsedJwt.getHeader().getZip()).isNull();
+		}
+
+		@Test
+		@DisplayName("압축 템플릿과 CBOR 인코딩으로 발급한 JWT 검증")
+		void mintCompressedWithTemplate_success() throws Exception {
+			JwtTemplate template = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.encoding(JWT.Encoding.CBOR)
+				.compress(0)
+				.issuer("홍길동")
+				.claim("permissions", permissions())
+				.template();
+
+			String token = template.mint(Map.of("subject", "user-1"));
+
+			ParsedJwt parsedJwt = JWT.parser().signedKey(HMAC256_SECRET_KEY).parse(token);
+			assertThat(parsedJwt.getHeader().getZip()).isEqualTo("DEF");
+			assertThat(parsedJwt.getPayload().getIssuer()).isEqualTo("홍길동");
+			assertThat(parsedJwt.getPayload().getSubject()).isEqualTo("user-1");
+			assertThat(parsedJwt.getPayload().getClaim("permissions", List.class)).hasSize(200);
+		}
+
+		@Test
+		@DisplayName("압축 해제 후 최대 길이를 넘는 Payload 검증 실패")
+		void verifyDecompressionBomb_fail() throws Exception {
+			String token = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.compress(0)
+				.claim("padding", "a".repeat(1024 * 1024))
+				.build();
+
+			assertThat(token.length()).isLessThan(4 * 1024);
+			assertThatThrownBy(() -> JWT.parser().maxDecompressedLength(64 * 1024).signedKey(HMAC256_SECRET_KEY).parse(token))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.INVALID_TOKEN);
+		}
+
+		@Test
+		@DisplayName("지원하지 않는 압축 방식 검증 실패")
+		void verifyUnsupportedCompression_fail() throws Exception {
+			String header = Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(new Header(Algorithm.HS256, null, "GZIP").toJson().getBytes(StandardCharsets.UTF_8));
+			String token = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.subject("subject")
+				.build();
+			String forged = header + token.substring(token.indexOf('.'));
+
+			assertThatThrownBy(() -> JWT.parser().signedKey(HMAC256_SECRET_KEY).parse(forged))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.UNSUPPORTED_TOKEN);
+		}
+	}
+
+	@Nested
+	@DisplayName("분리 Payload 서명 테스트")
+	class DetachedPayloadTest {
+		private byte[] content() {
+			return "a,b,c\n".repeat(100_000).getBytes(StandardCharsets.UTF_8);
+		}
+
+		@Test
+		@DisplayName("InputStream으로 분리 Payload 서명 및 검증")
+		void signAndVerifyDetachedStream_success() throws Exception {
+			String token = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.sign(new ByteArrayInputStream(content()));
+
+			Header header = JWT.parser().signedKey(HMAC256_SECRET_KEY)
+				.verifyDetached(token, new ByteArrayInputStream(content()));
+
+			assertThat(token).contains("..");
+			assertThat(header.getAlg()).isEqualTo("HS256");
+			assertThat(header.getB64()).isFalse();
+			assertThat(header.getCrit()).containsExactly("b64");
+		}
+
+		@Test
+		@DisplayName("파일 채널로 서명하고 메모리 매핑 버퍼로 검증")
+		void signFileChannelAndVerifyMappedBuffer_success(@TempDir Path directory) throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.ES256, JWT.KeySize.LOW);
+			Path file = Files.write(directory.resolve("export.csv"), content());
+
+			String token;
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+				token = JWT.builder()
+					.algorithm(Algorithm.ES256)
+					.privateKey(keyPair.getPrivate())
+					.keyId("key-1")
+					.sign(channel);
+			}
+
+			Header header;
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+				ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+				JwtKeyRing keyRing = new JwtKeyRing().add("key-1", Algorithm.ES256, keyPair.getPublic());
+				header = JWT.parser().keyRing(keyRing).verifyDetached(token, mapped);
+			}
+			assertThat(header.getKid()).isEqualTo("key-1");
+		}
+
+		@Test
+		@DisplayName("변조된 분리 Payload 검증 실패")
+		void verifyTamperedContent_fail() throws Exception {
+			String token = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.sign(ByteBuffer.wrap(content()));
+			byte[] tampered = content();
+			tampered[tampered.length - 2] = 'x';
+
+			assertThatThrownBy(() -> JWT.parser().signedKey(HMAC256_SECRET_KEY)
+				.verifyDetached(token, ByteBuffer.wrap(tampered)))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.INVALID_TOKEN);
+		}
+
+		@Test
+		@DisplayName("분리 Payload 토큰을 일반 JWT로 검증하면 실패")
+		void parseDetachedToken_fail() throws Exception {
+			String token = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.sign(ByteBuffer.wrap(content()));
+
+			assertThatThrownBy(() -> JWT.parser().signedKey(HMAC256_SECRET_KEY).parse(token))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.UNSUPPORTED_TOKEN);
+		}
+
+		@Test
+		@DisplayName("Payload가 포함된 JWT를 분리 Payload로 검증하면 실패")
+		void verifyAttachedToken_fail() throws Exception {
+			String token = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.subject("subject")
+				.build();
+
+			assertThatThrownBy(() -> JWT.parser().signedKey(HMAC256_SECRET_KEY)
+				.verifyDetached(token, ByteBuffer.wrap(content())))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.INVALID_TOKEN);
+		}
+	}
+
+	@Nested
+	@DisplayName("토큰 갱신 테스트")
+	class JwtRenewTest {
+		private final ZonedDateTime issuedAt = ZonedDateTime.of(LocalDateTime.of(2024, 1, 1, 0, 0), ZoneId.of("Asia/Seoul"));
+		private final ZonedDateTime expiration = ZonedDateTime.of(LocalDateTime.of(2098, 1, 1, 0, 0), ZoneId.of("Asia/Seoul"));
+		private final ZonedDateTime renewedAt = ZonedDateTime.of(LocalDateTime.of(2024, 6, 1, 0, 0), ZoneId.of("Asia/Seoul"));
+		private final ZonedDateTime renewedExpiration = ZonedDateTime.of(LocalDateTime.of(2099, 12, 31, 23, 59), ZoneId.of("Asia/Seoul"));
+
+		@Test
+		@DisplayName("시간 클레임만 바꾸고 나머지 Payload 바이트는 그대로 유지")
+		void renewPatchesTimeClaims_success() throws Exception {
+			JwtTemplate template = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.issuer("홍길동")
+				.claim("permissions", List.of("read", "write"))
+				.template();
+			JwtVerifier verifier = JWT.parser().signedKey(HMAC256_SECRET_KEY);
+			ParsedJwt parsedJwt = verifier.parse(template.mint("user-1", issuedAt, expiration));
+
+			String renewed = template.renew(parsedJwt, renewedExpiration, renewedAt, null);
+
+			Payload payload = verifier.payload(renewed);
+			String expected = parsedJwt.getPayload().toJson()
+				.replace(String.valueOf(expiration.toEpochSecond()), String.valueOf(renewedExpiration.toEpochSecond()))
+				.replace(String.valueOf(issuedAt.toEpochSecond()), String.valueOf(renewedAt.toEpochSecond()));
+			assertThat(payload.toJson()).isEqualTo(expected);
+			assertThat(payload.getIssuer()).isEqualTo("홍길동");
+			assertThat(payload.getSubject()).isEqualTo("user-1");
+			assertThat(payload.getExpiration(ZoneId.of("Asia/Seoul"))).isEqualTo(renewedExpiration);
+			assertThat(payload.getIssuedAt(ZoneId.of("Asia/Seoul"))).isEqualTo(renewedAt);
+		}
+
+		@Test
+		@DisplayName("원본에 없는 시간 클레임은 Payload 끝에 추가")
+		void renewAddsMissingTimeClaim_success() throws Exception {
+			JwtTemplate template = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.template();
+			JwtVerifier verifier = JWT.parser().signedKey(HMAC256_SECRET_KEY);
+			ParsedJwt parsedJwt = verifier.parse(template.mint("user-1", null, expiration));
+
+			String renewed = template.renew(parsedJwt, renewedExpiration, renewedAt, renewedAt);
+
+			Payload payload = verifier.payload(renewed);
+			assertThat(payload.getSubject()).isEqualTo("user-1");
+			assertThat(payload.getExpiration(ZoneId.of("Asia/Seoul"))).isEqualTo(renewedExpiration);
+			assertThat(payload.getIssuedAt(ZoneId.of("Asia/Seoul"))).isEqualTo(renewedAt);
+			assertThat(payload.getNotBeforeAt(ZoneId.of("Asia/Seoul"))).isEqualTo(renewedAt);
+		}
+
+		@Test
+		@DisplayName("CBOR 토큰은 전체 클레임을 다시 직렬화하여 갱신")
+		void renewCborToken_success() throws Exception {
+			JwtTemplate template = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.encoding(JWT.Encoding.CBOR)
+				.issuer("홍길동")
+				.template();
+			JwtVerifier verifier = JWT.parser().signedKey(HMAC256_SECRET_KEY);
+			ParsedJwt parsedJwt = verifier.parse(template.mint("user-1", issuedAt, expiration));
+
+			String renewed = template.renew(parsedJwt, renewedExpiration, null, null);
+
+			Payload payload = verifier.payload(renewed);
+			assertThat(payload.getIssuer()).isEqualTo("홍길동");
+			assertThat(payload.getSubject()).isEqualTo("user-1");
+			assertThat(payload.getIssuedAt(ZoneId.of("Asia/Seoul"))).isEqualTo(issuedAt);
+			assertThat(payload.getExpiration(ZoneId.of("Asia/Seoul"))).isEqualTo(renewedExpiration);
+		}
+
+		@Test
+		@DisplayName("템플릿과 알고리즘이 다른 토큰 갱신 실패")
+		void renewWithOtherAlgorithm_fail() throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.ES256, JWT.KeySize.LOW);
+			JwtTemplate template = JWT.builder()
+				.algorithm(Algorithm.ES256)
+				.privateKey(keyPair.getPrivate())
+				.template();
+			ParsedJwt parsedJwt = JWT.parser().signedKey(HMAC256_SECRET_KEY).parse(JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(HMAC256_SECRET_KEY)
+				.subject("user-1")
+				.build());
+
+			assertThatThrownBy(() -> template.renew(parsedJwt, renewedExpiration, null, null))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.UNSUPPORTED_ALGORITHM);
+		}
+	}
+
+	@Nested
+	@DisplayName("키 종류와 알고리즘 불일치 테스트")
+	class KeyAlgorithmMismatchTest {
+		@Test
+		@DisplayName("RSA 공개키 바이트로 만든 HS256 위조 토큰 검증 실패")
+		void verifyHmacTokenForgedWithPublicKey_fail() throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.RS256, JWT.KeySize.LOW);
+			String encodedPublicKey = Base64.getUrlEncoder().encodeToString(keyPair.getPublic().getEncoded());
+			String forged = JWT.builder()
+				.algorithm(Algorithm.HS256)
+				.secretKey(encodedPublicKey)
+				.subject("admin")
+				.build();
+
+			assertThatThrownBy(() -> JWT.parser().verifier(keyPair.getPublic()).parse(forged))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.UNSUPPORTED_ALGORITHM);
+			assertThatThrownBy(() -> JWT.parser().publicKey(keyPair.getPublic()).parse(forged))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.UNSUPPORTED_ALGORITHM);
+			assertThatThrownBy(() -> JWT.parser().signedKey(encodedPublicKey).parse(forged))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.UNSUPPORTED_ALGORITHM);
+		}
+
+		@Test
+		@DisplayName("검증기의 허용 알고리즘은 키 종류에 맞는 알고리즘으로 제한")
+		void verifierAlgorithmsMatchKeyType_success() throws Exception {
+			KeyPair rsaKeyPair = JWT.generateKeyPair(Algorithm.RS256, JWT.KeySize.LOW);
+			KeyPair ecKeyPair = JWT.generateKeyPair(Algorithm.ES256, JWT.KeySize.LOW);
+
+			assertThat(JWT.parser().verifier(rsaKeyPair.getPublic()).getAlgorithms()).containsExactlyInAnyOrder(
+				Algorithm.RS256, Algorithm.RS384, Algorithm.RS512, Algorithm.PS256, Algorithm.PS384, Algorithm.PS512);
+			assertThat(JWT.parser().verifier(ecKeyPair.getPublic()).getAlgorithms()).containsExactlyInAnyOrder(
+				Algorithm.ES256, Algorithm.ES384, Algorithm.ES512);
+			assertThat(JWT.parser().signedKey(HMAC256_SECRET_KEY).getAlgorithms()).containsExactlyInAnyOrder(
+				Algorithm.HS256, Algorithm.HS384, Algorithm.HS512);
+		}
+
+		@Test
+		@DisplayName("Base64 인코딩 키는 X.509 알고리즘 OID로 키 종류 판단")
+		void encodedKeyAlgorithms_success() throws Exception {
+			Base64.Encoder encoder = Base64.getUrlEncoder();
+			String rsaKey = encoder.encodeToString(JWT.generateKeyPair(Algorithm.RS256, JWT.KeySize.LOW).getPublic().getEncoded());
+			String psKey = encoder.encodeToString(JWT.generateKeyPair(Algorithm.PS256, JWT.KeySize.LOW).getPublic().getEncoded());
+			String ecKey = encoder.encodeToString(JWT.generateKeyPair(Algorithm.ES512, JWT.KeySize.LOW).getPublic().getEncoded());
+			String edKey = encoder.encodeToString(JWT.generateKeyPair(Algorithm.EdDSA, JWT.KeySize.LOW).getPublic().getEncoded());
+
+			assertThat(JwtAlgorithm.algorithmsOf(rsaKey)).contains(Algorithm.RS256, Algorithm.PS512).hasSize(6);
+			assertThat(JwtAlgorithm.algorithmsOf(psKey)).contains(Algorithm.PS256).hasSize(6);
+			assertThat(JwtAlgorithm.algorithmsOf(ecKey)).containsExactlyInAnyOrder(Algorithm.ES256, Algorithm.ES384, Algorithm.ES512);
+			assertThat(JwtAlgorithm.algorithmsOf(edKey)).containsExactly(Algorithm.EdDSA);
+			assertThat(JwtAlgorithm.algorithmsOf(HMAC256_SECRET_KEY)).containsExactlyInAnyOrder(
+				Algorithm.HS256, Algorithm.HS384, Algorithm.HS512);
+			assertThat(JwtAlgorithm.algorithmsOf("MIIB-not-a-key-but-starts-like-one")).containsExactlyInAnyOrder(
+				Algorithm.HS256, Algorithm.HS384, Algorithm.HS512);
+		}
+
+		@Test
+		@DisplayName("SecretKey 검증기로 RS256 토큰 검증 시 JwtException 발생")
+		void verifyPublicKeyTokenWithSecretKey_fail() throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.RS256, JWT.KeySize.LOW);
+			SecretKey secretKey = JWT.generateSecretKey(Algorithm.HS256);
+			String token = JWT.builder()
+				.algorithm(Algorithm.RS256)
+				.privateKey(keyPair.getPrivate())
+				.subject("subject")
+				.build();
+			JwtVerifier verifier = JWT.parser().verifier(secretKey);
+
+			List<JwtVerifier.VerificationResult> results = verifier.parseAll(List.of(token));
+
+			assertThatThrownBy(() -> verifier.parse(token))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.UNSUPPORTED_ALGORITHM);
+			assertThat(results.get(0).getException().getErrorCode()).isEqualTo(JwtErrorCode.UNSUPPORTED_ALGORITHM);
+		}
+
+		@Test
+		@DisplayName("키 종류와 맞지 않는 알고리즘으로 JWT 생성 실패")
+		void buildWithMismatchedKey_fail() throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.RS256, JWT.KeySize.LOW);
+
+			assertThatThrownBy(() -> JWT.builder()
+				.algorithm(Algorithm.ES256)
+				.privateKey(keyPair.getPrivate())
+				.subject("subject")
+				.build())
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.UNSUPPORTED_ALGORITHM);
+		}
+
+		@Test
+		@DisplayName("키 목록에 키 종류와 맞지 않는 알고리즘으로 등록 실패")
+		void addMismatchedKeyToKeyRing_fail() throws Exception {
+			KeyPair keyPair = JWT.generateKeyPair(Algorithm.RS256, JWT.KeySize.LOW);
+
+			assertThatThrownBy(() -> new JwtKeyRing().add("key-1", Algorithm.HS256, keyPair.getPublic()))
+				.isInstanceOf(JwtException.class)
+				.extracting(e -> ((JwtException) e).getErrorCode())
+				.isEqualTo(JwtErrorCode.UNSUPPORTED_ALGORITHM);
+		}
+	}
+
+	public record UserClaims(String subject, long age, long expiration, List<String> roles) {
+	}
+
+}
\ No newline at end of file